@@ -0,0 +1,98 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.chat.CachedChat;
+import net.milkbowl.vault.permission.SuperPerms;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for player prefix, suffix and info node lookups through Chat.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class ChatBenchmark {
+
+    private MapChat chat;
+    private CachedChat cachedChat;
+    private UUID uuid;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        chat = new MapChat(new SuperPerms(StandIns.plugin("Vault")));
+        uuid = UUID.randomUUID();
+        player = StandIns.player(uuid, "Bench", Collections.emptySet());
+        chat.setPlayerPrefix(uuid, "&7[&aMember&7] ");
+        chat.setPlayerSuffix(uuid, " &f");
+        chat.setPlayerInfoInteger(uuid, "max-homes", 5);
+        cachedChat = new CachedChat(chat, 1000, 60_000L);
+    }
+
+    @Benchmark
+    public String getPlayerPrefixByUuid() {
+        return chat.getPlayerPrefix(uuid);
+    }
+
+    @Benchmark
+    public String getPlayerPrefixByPlayer() {
+        return chat.getPlayerPrefix(player);
+    }
+
+    @Benchmark
+    public String getPlayerPrefixInWorld() {
+        return chat.getPlayerPrefix("world", player);
+    }
+
+    @Benchmark
+    public String getPlayerSuffixByPlayer() {
+        return chat.getPlayerSuffix(player);
+    }
+
+    @Benchmark
+    public String getFormattedPlayerPrefix() {
+        return chat.getFormattedPlayerPrefix("world", uuid);
+    }
+
+    @Benchmark
+    public String getFormattedPlayerPrefixCached() {
+        return cachedChat.getFormattedPlayerPrefix("world", uuid);
+    }
+
+    @Benchmark
+    public int getPlayerInfoInteger() {
+        return chat.getPlayerInfoInteger(uuid, "max-homes", 1);
+    }
+
+    @Benchmark
+    public int getPlayerInfoIntegerCached() {
+        return cachedChat.getPlayerInfoInteger(uuid, "max-homes", 1);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.util.command.Command;
+import net.milkbowl.vault.util.command.CommandArgs;
+import net.milkbowl.vault.util.command.CommandFramework;
+import net.milkbowl.vault.util.command.Completer;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for command dispatch and tab-completion through the CommandFramework.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+
+    private static final String[] NO_ARGS = {};
+    private static final String[] SUB_ARGS = {"convert", "Economy1", "Economy2"};
+    private static final String[] MIXED_CASE_ARGS = {"CONVERT", "Economy1", "Economy2"};
+    private static final String[] UNKNOWN_ARGS = {"missing", "a", "b", "c"};
+    private static final String[] COMPLETE_ARGS = {"convert", ""};
+
+    private CommandFramework framework;
+    private org.bukkit.command.Command command;
+    private CommandSender sender;
+    private Handlers handlers;
+
+    @Setup
+    public void setup() {
+        framework = new CommandFramework(StandIns.plugin("Vault"));
+        handlers = new Handlers();
+        framework.registerCommands(handlers);
+        command = framework.getMap().getCommand("bench");
+        sender = StandIns.sender();
+    }
+
+    @Benchmark
+    public int dispatchRoot() {
+        framework.onCommand(sender, command, "bench", NO_ARGS);
+        return handlers.calls;
+    }
+
+    @Benchmark
+    public int dispatchSubcommand() {
+        framework.onCommand(sender, command, "bench", SUB_ARGS);
+        return handlers.calls;
+    }
+
+    @Benchmark
+    public int dispatchMixedCase() {
+        framework.onCommand(sender, command, "BENCH", MIXED_CASE_ARGS);
+        return handlers.calls;
+    }
+
+    @Benchmark
+    public int dispatchUnknownSubcommand() {
+        framework.onCommand(sender, command, "bench", UNKNOWN_ARGS);
+        return handlers.calls;
+    }
+
+    @Benchmark
+    public List<String> tabComplete() {
+        return command.tabComplete(sender, "bench", COMPLETE_ARGS);
+    }
+
+    /**
+     * Command handlers registered with the framework under test.
+     */
+    public static class Handlers {
+
+        private static final List<String> ECONOMIES = Arrays.asList("Economy1", "Economy2");
+
+        private int calls;
+
+        @Command(name = "bench", description = "Benchmark command.", usage = "/bench")
+        public void onBench(@NotNull CommandArgs args) {
+            calls += args.length();
+        }
+
+        @Command(name = "bench.convert", permission = "bench.convert",
+                description = "Benchmark subcommand.", usage = "/bench convert <from> <to>")
+        public void onConvert(@NotNull CommandArgs args) {
+            calls += args.length();
+        }
+
+        @Completer(name = "bench.convert")
+        public List<String> completeConvert(@NotNull CommandArgs args) {
+            return ECONOMIES;
+        }
+    }
+}
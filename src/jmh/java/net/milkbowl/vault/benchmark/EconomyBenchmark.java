@@ -0,0 +1,103 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.MemoryEconomy;
+import org.bukkit.OfflinePlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the AbstractEconomy OfflinePlayer to UUID delegation
+ * and for EconomyResponse allocation.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class EconomyBenchmark {
+
+    private MapEconomy economy;
+    private MemoryEconomy memoryEconomy;
+    private UUID uuid;
+    private OfflinePlayer player;
+
+    @Setup
+    public void setup() {
+        economy = new MapEconomy();
+        uuid = UUID.randomUUID();
+        player = StandIns.offlinePlayer(uuid);
+        economy.createPlayerAccount(uuid);
+        economy.depositPlayer(uuid, 1_000_000.0);
+        memoryEconomy = new MemoryEconomy(1_000_000.0, "Dollar", "Dollars");
+        memoryEconomy.createPlayerAccount(uuid);
+    }
+
+    @Benchmark
+    public double getBalanceByUuid() {
+        return economy.getBalance(uuid);
+    }
+
+    @Benchmark
+    public double getBalanceByOfflinePlayer() {
+        return economy.getBalance(player);
+    }
+
+    @Benchmark
+    public boolean hasByOfflinePlayer() {
+        return economy.has(player, 10.0);
+    }
+
+    @Benchmark
+    public EconomyResponse depositAndWithdrawByOfflinePlayer() {
+        economy.depositPlayer(player, 1.0);
+        return economy.withdrawPlayer(player, 1.0);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EconomyResponse memoryDepositAndWithdrawContended() {
+        memoryEconomy.depositPlayer(uuid, 1.0);
+        return memoryEconomy.withdrawPlayer(uuid, 1.0);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double memoryDepositAndWithdrawForBalanceContended() {
+        memoryEconomy.depositPlayerForBalance(uuid, 1.0);
+        return memoryEconomy.withdrawPlayerForBalance(uuid, 1.0);
+    }
+
+    @Benchmark
+    public EconomyResponse allocateResponse() {
+        return new EconomyResponse(1.0, 2.0, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Benchmark
+    public boolean allocateAndCheckResponse() {
+        return new EconomyResponse(1.0, 2.0, EconomyResponse.ResponseType.SUCCESS, null).transactionSuccess();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.permission.Permission;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map-backed Chat stand-in. Only player prefixes and suffixes are stored;
+ * every other lookup returns its default value.
+ *
+ * @author Foulest
+ */
+final class MapChat extends Chat {
+
+    private final Map<UUID, String> prefixes = new ConcurrentHashMap<>();
+    private final Map<UUID, String> suffixes = new ConcurrentHashMap<>();
+
+    // Info nodes are stored as text and parsed on every read, as most providers do.
+    private final Map<UUID, Map<String, String>> meta = new ConcurrentHashMap<>();
+
+    MapChat(@NotNull Permission permission) {
+        super(permission);
+    }
+
+    @Override
+    public String getName() {
+        return "MapChat";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String getPlayerPrefix(UUID uuid) {
+        return prefixes.get(uuid);
+    }
+
+    @Override
+    public String getPlayerPrefix(String world, UUID uuid) {
+        return prefixes.get(uuid);
+    }
+
+    @Override
+    public void setPlayerPrefix(UUID uuid, String prefix) {
+        prefixes.put(uuid, prefix);
+    }
+
+    @Override
+    public void setPlayerPrefix(String world, UUID uuid, String prefix) {
+        prefixes.put(uuid, prefix);
+    }
+
+    @Override
+    public String getPlayerSuffix(UUID uuid) {
+        return suffixes.get(uuid);
+    }
+
+    @Override
+    public String getPlayerSuffix(String world, UUID uuid) {
+        return suffixes.get(uuid);
+    }
+
+    @Override
+    public void setPlayerSuffix(UUID uuid, String suffix) {
+        suffixes.put(uuid, suffix);
+    }
+
+    @Override
+    public void setPlayerSuffix(String world, UUID uuid, String suffix) {
+        suffixes.put(uuid, suffix);
+    }
+
+    @Override
+    public String getGroupPrefix(String group) {
+        return null;
+    }
+
+    @Override
+    public String getGroupPrefix(String world, String group) {
+        return null;
+    }
+
+    @Override
+    public void setGroupPrefix(String group, String prefix) {
+    }
+
+    @Override
+    public void setGroupPrefix(String world, String group, String prefix) {
+    }
+
+    @Override
+    public String getGroupSuffix(String group) {
+        return null;
+    }
+
+    @Override
+    public String getGroupSuffix(String world, String group) {
+        return null;
+    }
+
+    @Override
+    public void setGroupSuffix(String group, String suffix) {
+    }
+
+    @Override
+    public void setGroupSuffix(String world, String group, String suffix) {
+    }
+
+    @Override
+    public int getPlayerInfoInteger(UUID uuid, String node, int defaultValue) {
+        String value = meta.getOrDefault(uuid, Collections.emptyMap()).get(node);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    @Override
+    public int getPlayerInfoInteger(String world, UUID uuid, String node, int defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setPlayerInfoInteger(UUID uuid, String node, int value) {
+        meta.computeIfAbsent(uuid, key -> new ConcurrentHashMap<>()).put(node, Integer.toString(value));
+    }
+
+    @Override
+    public void setPlayerInfoInteger(String world, UUID uuid, String node, int value) {
+    }
+
+    @Override
+    public int getGroupInfoInteger(String group, String node, int defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public int getGroupInfoInteger(String world, String group, String node, int defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setGroupInfoInteger(String group, String node, int value) {
+    }
+
+    @Override
+    public void setGroupInfoInteger(String world, String group, String node, int value) {
+    }
+
+    @Override
+    public double getPlayerInfoDouble(UUID uuid, String node, double defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public double getPlayerInfoDouble(String world, UUID uuid, String node, double defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setPlayerInfoDouble(UUID uuid, String node, double value) {
+    }
+
+    @Override
+    public void setPlayerInfoDouble(String world, UUID uuid, String node, double value) {
+    }
+
+    @Override
+    public double getGroupInfoDouble(String group, String node, double defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public double getGroupInfoDouble(String world, String group, String node, double defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setGroupInfoDouble(String group, String node, double value) {
+    }
+
+    @Override
+    public void setGroupInfoDouble(String world, String group, String node, double value) {
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(UUID uuid, String node, boolean defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(String world, UUID uuid, String node, boolean defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(UUID uuid, String node, boolean value) {
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(String world, UUID uuid, String node, boolean value) {
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String group, String node, boolean defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String world, String group, String node, boolean defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String group, String node, boolean value) {
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String world, String group, String node, boolean value) {
+    }
+
+    @Override
+    public String getPlayerInfoString(UUID uuid, String node, String defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public String getPlayerInfoString(String world, UUID uuid, String node, String defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setPlayerInfoString(UUID uuid, String node, String value) {
+    }
+
+    @Override
+    public void setPlayerInfoString(String world, UUID uuid, String node, String value) {
+    }
+
+    @Override
+    public String getGroupInfoString(String group, String node, String defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public String getGroupInfoString(String world, String group, String node, String defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public void setGroupInfoString(String group, String node, String value) {
+    }
+
+    @Override
+    public void setGroupInfoString(String world, String group, String node, String value) {
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.economy.AbstractEconomy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map-backed Economy stand-in without bank support.
+ *
+ * @author Foulest
+ */
+final class MapEconomy extends AbstractEconomy {
+
+    private final Map<UUID, Double> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "MapEconomy";
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return false;
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return 2;
+    }
+
+    @Override
+    public @NotNull String format(double amount) {
+        return String.format("%.2f", amount);
+    }
+
+    @Override
+    public @NotNull String currencyNamePlural() {
+        return "Dollars";
+    }
+
+    @Override
+    public @NotNull String currencyNameSingular() {
+        return "Dollar";
+    }
+
+    @Override
+    public boolean hasAccount(@NotNull UUID uuid) {
+        return balances.containsKey(uuid);
+    }
+
+    @Override
+    public boolean hasAccount(@NotNull UUID uuid, String world) {
+        return hasAccount(uuid);
+    }
+
+    @Override
+    public double getBalance(@NotNull UUID uuid) {
+        return balances.getOrDefault(uuid, 0.0);
+    }
+
+    @Override
+    public double getBalance(@NotNull UUID uuid, String world) {
+        return getBalance(uuid);
+    }
+
+    @Override
+    public boolean has(@NotNull UUID uuid, double amount) {
+        return getBalance(uuid) >= amount;
+    }
+
+    @Override
+    public boolean has(@NotNull UUID uuid, String world, double amount) {
+        return has(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse withdrawPlayer(@NotNull UUID uuid, double amount) {
+        double balance = balances.merge(uuid, -amount, Double::sum);
+        return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public @NotNull EconomyResponse withdrawPlayer(@NotNull UUID uuid, String world, double amount) {
+        return withdrawPlayer(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse depositPlayer(@NotNull UUID uuid, double amount) {
+        double balance = balances.merge(uuid, amount, Double::sum);
+        return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public @NotNull EconomyResponse depositPlayer(@NotNull UUID uuid, String world, double amount) {
+        return depositPlayer(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse createBank(String name, UUID uuid) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse deleteBank(String name) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankBalance(String name) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankHas(String name, double amount) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankWithdraw(String name, double amount) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankDeposit(String name, double amount) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse isBankOwner(String name, UUID uuid) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull EconomyResponse isBankMember(String name, UUID uuid) {
+        return notImplemented();
+    }
+
+    @Override
+    public @NotNull List<String> getBanks() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid) {
+        return balances.putIfAbsent(uuid, 0.0) == null;
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid, String world) {
+        return createPlayerAccount(uuid);
+    }
+
+    private static @NotNull EconomyResponse notImplemented() {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.permission.OfflinePermissionStore;
+import net.milkbowl.vault.permission.SuperPerms;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for permission checks through SuperPerms.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class PermissionBenchmark {
+
+    private SuperPerms permission;
+    private UUID online;
+    private UUID offline;
+    private Player player;
+    private String[] menuNodes;
+    private OfflinePermissionStore offlineStore;
+
+    @Setup
+    public void setup() throws IOException {
+        @NotNull Set<String> nodes = new HashSet<>();
+
+        for (int i = 0; i < 64; i++) {
+            nodes.add("bench.node." + i);
+        }
+
+        // One node per slot of a double chest menu; every other node is granted.
+        menuNodes = new String[54];
+
+        for (int i = 0; i < menuNodes.length; i++) {
+            menuNodes[i] = i % 2 == 0 ? "bench.node." + i : "bench.missing." + i;
+        }
+
+        nodes.add("groups.admin");
+        nodes.add("bench.wild.*");
+        online = UUID.randomUUID();
+        offline = UUID.randomUUID();
+        player = StandIns.player(online, "Bench", nodes);
+        @NotNull File storeFile = File.createTempFile("vault-offline", ".dat");
+        storeFile.deleteOnExit();
+        offlineStore = new OfflinePermissionStore(storeFile, 1000, 256);
+
+        @NotNull Map<String, Boolean> offlineNodes = new HashMap<>();
+
+        for (@NotNull String node : nodes) {
+            offlineNodes.put(node, true);
+        }
+
+        offlineStore.put(offline, false, offlineNodes);
+        permission = new SuperPerms(StandIns.plugin("Vault"), true, 1000L, offlineStore);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        offlineStore.close();
+    }
+
+    @Benchmark
+    public boolean playerHasGranted() {
+        return permission.playerHas(online, "bench.node.32");
+    }
+
+    @Benchmark
+    public boolean playerHasDenied() {
+        return permission.playerHas(online, "bench.missing");
+    }
+
+    @Benchmark
+    public boolean playerHasWildcard() {
+        return permission.playerHas(online, "bench.wild.deep.node");
+    }
+
+    @Benchmark
+    public boolean playerHasOffline() {
+        return permission.playerHas(offline, "bench.node.32");
+    }
+
+    @Benchmark
+    public boolean playerHasOfflineWildcard() {
+        return permission.playerHas(offline, "bench.wild.deep.node");
+    }
+
+    @Benchmark
+    public boolean playerHasByPlayer() {
+        return permission.playerHas(player, "bench.node.32");
+    }
+
+    @Benchmark
+    public BitSet menuPlayerHasLoop() {
+        @NotNull BitSet result = new BitSet(menuNodes.length);
+
+        for (int i = 0; i < menuNodes.length; i++) {
+            if (permission.playerHas(online, menuNodes[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet menuPlayerHasEach() {
+        return permission.playerHasEach(online, menuNodes);
+    }
+
+    @Benchmark
+    public boolean playerInGroup() {
+        return permission.playerInGroup(online, "admin");
+    }
+}
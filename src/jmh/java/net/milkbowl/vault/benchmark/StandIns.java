@@ -0,0 +1,219 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.entity.Player;
+import org.bukkit.permissions.PermissionAttachment;
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.SimplePluginManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Lightweight stand-ins for the Bukkit objects Vault uses, so the benchmarks run headless.
+ * Each stand-in is a dynamic proxy that answers the handful of methods Vault calls;
+ * every other method returns null, false or zero.
+ *
+ * @author Foulest
+ */
+final class StandIns {
+
+    private static final Logger LOGGER = Logger.getLogger("Vault");
+    private static final Map<UUID, Player> PLAYERS = new ConcurrentHashMap<>();
+    private static final Server SERVER;
+    private static final PluginManager PLUGIN_MANAGER;
+
+    static {
+        @NotNull Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getLogger", args -> LOGGER);
+        answers.put("getName", args -> "StandIn");
+        answers.put("getVersion", args -> "benchmark");
+        answers.put("getBukkitVersion", args -> "benchmark");
+        answers.put("getPlayer", args -> args[0] instanceof UUID ? PLAYERS.get(args[0]) : null);
+        answers.put("getPluginManager", args -> StandIns.PLUGIN_MANAGER);
+        SERVER = stub(Server.class, answers);
+        PLUGIN_MANAGER = new SimplePluginManager(SERVER, new SimpleCommandMap(SERVER));
+
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(SERVER);
+        }
+    }
+
+    private StandIns() {
+    }
+
+    /**
+     * Gets the stand-in server, installing it as the Bukkit server on first use.
+     *
+     * @return The stand-in server.
+     */
+    static @NotNull Server server() {
+        return SERVER;
+    }
+
+    /**
+     * Creates a stand-in plugin attached to the stand-in server.
+     *
+     * @param name The name of the plugin.
+     * @return The stand-in plugin.
+     */
+    static @NotNull Plugin plugin(@NotNull String name) {
+        @NotNull Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getName", args -> name);
+        answers.put("getServer", args -> SERVER);
+        answers.put("getLogger", args -> LOGGER);
+        answers.put("isEnabled", args -> true);
+        return stub(Plugin.class, answers);
+    }
+
+    /**
+     * Creates an online stand-in player with the given permissions.
+     *
+     * @param uuid        The UUID of the player.
+     * @param name        The name of the player.
+     * @param permissions The permissions the player has.
+     * @return The stand-in player.
+     */
+    static @NotNull Player player(@NotNull UUID uuid, @NotNull String name, @NotNull Set<String> permissions) {
+        // The player is created after its answers, which need it as the permissible.
+        @NotNull Player[] self = new Player[1];
+        @NotNull Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getUniqueId", args -> uuid);
+        answers.put("getName", args -> name);
+        answers.put("getServer", args -> SERVER);
+        answers.put("isOnline", args -> true);
+        answers.put("hasPermission", args -> args[0] instanceof String && permissions.contains(args[0]));
+        answers.put("isPermissionSet", args -> args[0] instanceof String && permissions.contains(args[0]));
+        answers.put("getEffectivePermissions", args -> {
+            @NotNull Set<PermissionAttachmentInfo> infos = new HashSet<>();
+            @NotNull PermissionAttachment attachment = new PermissionAttachment(plugin("Bench"), self[0]);
+
+            for (@NotNull String permission : permissions) {
+                infos.add(new PermissionAttachmentInfo(self[0], permission, attachment, true));
+            }
+            return infos;
+        });
+
+        @NotNull Player player = stub(Player.class, answers);
+        self[0] = player;
+        PLAYERS.put(uuid, player);
+        return player;
+    }
+
+    /**
+     * Creates a stand-in offline player.
+     *
+     * @param uuid The UUID of the player.
+     * @return The stand-in offline player.
+     */
+    static @NotNull OfflinePlayer offlinePlayer(@NotNull UUID uuid) {
+        @NotNull Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getUniqueId", args -> uuid);
+        return stub(OfflinePlayer.class, answers);
+    }
+
+    /**
+     * Creates a stand-in command sender that has every permission and discards messages.
+     *
+     * @return The stand-in command sender.
+     */
+    static @NotNull CommandSender sender() {
+        @NotNull Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getName", args -> "CONSOLE");
+        answers.put("getServer", args -> SERVER);
+        answers.put("hasPermission", args -> true);
+        answers.put("isOp", args -> true);
+        return stub(CommandSender.class, answers);
+    }
+
+    /**
+     * Creates a dynamic proxy answering the given methods by name.
+     *
+     * @param type    The interface to implement.
+     * @param answers The answers, keyed by method name.
+     * @param <T>     The interface type.
+     * @return The proxy.
+     */
+    private static <T> @NotNull T stub(@NotNull Class<T> type, @NotNull Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(StandIns.class.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> {
+                    @NotNull String name = method.getName();
+                    @Nullable Function<Object[], Object> answer = answers.get(name);
+
+                    if (answer != null) {
+                        return answer.apply(args == null ? new Object[0] : args);
+                    }
+
+                    switch (name) {
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        case "equals":
+                            return self == args[0];
+                        case "toString":
+                            return type.getSimpleName() + "@StandIn";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+        return type.cast(proxy);
+    }
+
+    /**
+     * Gets the default value of a return type.
+     *
+     * @param type The return type.
+     * @return Null for reference types, or the zero value for primitive types.
+     */
+    private static @Nullable Object defaultValue(@NotNull Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == double.class) {
+            return 0.0D;
+        } else if (type == float.class) {
+            return 0.0F;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        }
+        return (byte) 0;
+    }
+}
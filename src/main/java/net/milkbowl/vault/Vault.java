@@ -19,17 +19,31 @@ package net.milkbowl.vault;
 
 import lombok.Getter;
 import net.milkbowl.vault.cmds.VaultCmd;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyConverter;
+import net.milkbowl.vault.economy.FileEconomy;
+import net.milkbowl.vault.economy.MemoryEconomy;
+import net.milkbowl.vault.listeners.PlayerListener;
+import net.milkbowl.vault.listeners.ServiceListener;
+import net.milkbowl.vault.permission.OfflinePermissionStore;
 import net.milkbowl.vault.permission.Permission;
 import net.milkbowl.vault.permission.SuperPerms;
 import net.milkbowl.vault.util.MessageUtil;
+import net.milkbowl.vault.util.PlayerIndex;
+import net.milkbowl.vault.util.Settings;
+import net.milkbowl.vault.util.VaultExecutor;
+import net.milkbowl.vault.util.VaultServices;
 import net.milkbowl.vault.util.command.CommandFramework;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.ServicesManager;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.logging.Level;
 
 /**
@@ -43,6 +57,9 @@ public class Vault extends JavaPlugin {
     @Getter
     private static Vault instance;
     private CommandFramework framework;
+    private FileEconomy fileEconomy;
+    private SuperPerms superPerms;
+    private OfflinePermissionStore offlinePermissionStore;
 
     @Override
     public void onLoad() {
@@ -51,6 +68,24 @@ public class Vault extends JavaPlugin {
 
     @Override
     public void onEnable() {
+        // Loads the configuration.
+        MessageUtil.log(Level.INFO, "Loading Settings...");
+        saveDefaultConfig();
+        Settings.load(getConfig());
+
+        // Indexes player names for the name-based API methods.
+        MessageUtil.log(Level.INFO, "Indexing Players...");
+        PlayerIndex.load(Bukkit.getOnlinePlayers());
+
+        superPerms = new SuperPerms(this, Settings.superPermsWildcards,
+                Settings.superPermsRefreshMillis, loadOfflinePermissionStore());
+
+        // Loads the listeners; the service listener must be registered
+        // before any providers so it can decorate them as they appear.
+        MessageUtil.log(Level.INFO, "Loading Listeners...");
+        @NotNull ServiceListener serviceListener = new ServiceListener();
+        loadListeners(serviceListener, new PlayerListener(superPerms));
+
         // Initializes the Command Framework.
         MessageUtil.log(Level.INFO, "Initializing Command Framework...");
         framework = new CommandFramework(this);
@@ -58,12 +93,21 @@ public class Vault extends JavaPlugin {
         // Loads SuperPerms as a backup in case no other permissions plugin is loaded.
         MessageUtil.log(Level.INFO, "Loading Backup Permission System...");
         @NotNull ServicesManager servicesManager = Bukkit.getServer().getServicesManager();
-        servicesManager.register(Permission.class, new SuperPerms(this), this, ServicePriority.Lowest);
+        servicesManager.register(Permission.class, superPerms, this, ServicePriority.Lowest);
+
+        // Loads the in-memory economy as a backup in case no other economy plugin is loaded.
+        if (Settings.memoryEconomyEnabled) {
+            MessageUtil.log(Level.INFO, "Loading Backup Economy System...");
+            loadBackupEconomy(servicesManager);
+        }
 
         // Loads the Vault commands.
         MessageUtil.log(Level.INFO, "Loading Commands...");
         loadCommands(new VaultCmd());
 
+        // Decorates any providers that were registered before Vault was enabled.
+        serviceListener.refreshAll();
+
         MessageUtil.log(Level.INFO, "Loaded successfully.");
     }
 
@@ -72,6 +116,92 @@ public class Vault extends JavaPlugin {
         // Removes all service registrations.
         getServer().getServicesManager().unregisterAll(this);
         Bukkit.getScheduler().cancelTasks(this);
+        VaultServices.clear();
+
+        // Pauses any running economy conversion; it resumes from its checkpoint.
+        EconomyConverter.stopRunning();
+
+        // Finishes any pending asynchronous provider calls.
+        VaultExecutor.shutdown();
+
+        // Saves the permissions of online players, so they can be checked while offline.
+        if (offlinePermissionStore != null) {
+            for (@NotNull Player player : Bukkit.getOnlinePlayers()) {
+                superPerms.rememberPlayer(player);
+            }
+
+            try {
+                offlinePermissionStore.close();
+            } catch (IOException ex) {
+                MessageUtil.log(Level.SEVERE, "Unable to save the offline permission store: " + ex.getMessage());
+            }
+
+            offlinePermissionStore = null;
+        }
+
+        // Saves the balances of the file-backed backup economy.
+        if (fileEconomy != null) {
+            try {
+                fileEconomy.close();
+            } catch (IOException ex) {
+                MessageUtil.log(Level.SEVERE, "Unable to save the backup economy: " + ex.getMessage());
+            }
+
+            fileEconomy = null;
+        }
+    }
+
+    /**
+     * Opens the store of offline player permissions used by SuperPerms, if enabled.
+     *
+     * @return The store, or null if it is disabled or can't be opened.
+     */
+    private OfflinePermissionStore loadOfflinePermissionStore() {
+        if (!Settings.superPermsOfflineEnabled) {
+            return null;
+        }
+
+        @NotNull File folder = getDataFolder();
+
+        try {
+            if (!folder.isDirectory() && !folder.mkdirs()) {
+                throw new IOException("Unable to create folder: " + folder);
+            }
+
+            offlinePermissionStore = new OfflinePermissionStore(new File(folder, "offline-permissions.dat"),
+                    Settings.superPermsOfflineMaxPlayers, Settings.superPermsOfflineMaxNodes);
+        } catch (IOException ex) {
+            MessageUtil.log(Level.SEVERE, "Unable to load the offline permission store: " + ex.getMessage());
+        }
+        return offlinePermissionStore;
+    }
+
+    /**
+     * Registers the backup economy, backed by a journal file if configured.
+     *
+     * @param servicesManager The services manager to register with.
+     */
+    private void loadBackupEconomy(@NotNull ServicesManager servicesManager) {
+        @NotNull MemoryEconomy economy;
+
+        if (Settings.memoryEconomyPersistent) {
+            try {
+                fileEconomy = new FileEconomy(new File(getDataFolder(), "economy"),
+                        Settings.memoryEconomyStartingBalance, Settings.memoryEconomyCurrencySingular,
+                        Settings.memoryEconomyCurrencyPlural, Settings.memoryEconomyJournalSize,
+                        Settings.memoryEconomySyncIntervalMillis);
+            } catch (IOException ex) {
+                MessageUtil.log(Level.SEVERE, "Unable to load the backup economy: " + ex.getMessage());
+                return;
+            }
+
+            economy = fileEconomy;
+        } else {
+            economy = new MemoryEconomy(Settings.memoryEconomyStartingBalance,
+                    Settings.memoryEconomyCurrencySingular, Settings.memoryEconomyCurrencyPlural);
+        }
+
+        servicesManager.register(Economy.class, economy, this, ServicePriority.Lowest);
     }
 
     /**
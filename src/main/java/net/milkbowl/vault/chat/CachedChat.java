@@ -0,0 +1,1271 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.chat;
+
+import net.milkbowl.vault.permission.GroupVersions;
+import net.milkbowl.vault.util.ExpiringCache;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caching layer in front of a Chat provider.
+ * Player prefixes and suffixes are resolved once per player and world, and stored
+ * together with their color-translated form. A player's entries are invalidated when
+ * their prefix or suffix is changed through this decorator, and all entries are
+ * invalidated when a group prefix or suffix is changed.
+ * <p>
+ * Info node values are cached per player or group and world, in tables indexed by
+ * interned node ids that store integers, doubles and booleans unboxed, so cached
+ * reads don't allocate. Changing a player's info node invalidates that player's
+ * values; changing a group's info node invalidates the group and all players,
+ * as players may inherit the value from their groups.
+ * <p>
+ * Each player's primary group, group list and group membership checks are cached along with
+ * their group membership version, and reloaded once a group is added to or removed from them
+ * through Vault. Callers get their own copy of a cached group array.
+ * <p>
+ * Changes made through the deprecated player name overloads invalidate every player's
+ * entries, as the provider may resolve the name to another player than Vault would.
+ *
+ * @author Foulest
+ */
+public class CachedChat extends ChatDecorator {
+
+    // Keys of the entries loaded without a world, and with a null world.
+    private static final String GLOBAL = "";
+    private static final String NULL_WORLD = "\0";
+
+    // Key of the entries loaded with a null node or group.
+    private static final String NULL_KEY = "\0";
+
+    private final @NotNull ExpiringCache<UUID, PlayerAffixes> players;
+
+    // Info node values of players and groups, keyed by world.
+    private final @NotNull ExpiringCache<UUID, Map<String, MetaTable>> playerMeta;
+    private final @NotNull ExpiringCache<String, Map<String, MetaTable>> groupMeta;
+
+    // Info node names interned to the ids that index the meta tables.
+    private final Map<String, Integer> nodeIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextNodeId = new AtomicInteger();
+
+    // Primary groups and group lists of players, stamped with their group membership version.
+    private final @NotNull ExpiringCache<UUID, Versioned<String>> primaryGroups;
+    private final @NotNull ExpiringCache<UUID, Versioned<String[]>> playerGroups;
+    private final @NotNull ExpiringCache<UUID, Versioned<Map<String, Boolean>>> memberships;
+    private final @NotNull ExpiringCache<String, String[]> groups;
+
+    // Loaders created once, so cache hits don't allocate a capturing lambda.
+    private final @NotNull Function<UUID, Versioned<String>> primaryGroupLoader = this::loadPrimaryGroup;
+    private final @NotNull Function<UUID, Versioned<String[]>> playerGroupsLoader = this::loadPlayerGroups;
+    private final @NotNull Function<UUID, Versioned<Map<String, Boolean>>> membershipsLoader =
+            uuid -> new Versioned<>(GroupVersions.get(uuid), new ConcurrentHashMap<>());
+    private final @NotNull Function<String, String[]> groupsLoader = this::loadGroups;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cached Chat.
+     *
+     * @param delegate   The Chat provider to cache.
+     * @param maxPlayers The maximum number of players to cache.
+     * @param ttlMillis  The time in milliseconds before a player's cached entries expire.
+     */
+    public CachedChat(@NotNull Chat delegate, int maxPlayers, long ttlMillis) {
+        super(delegate);
+        players = new ExpiringCache<>(maxPlayers, ttlMillis);
+        playerMeta = new ExpiringCache<>(maxPlayers, ttlMillis);
+        groupMeta = new ExpiringCache<>(maxPlayers, ttlMillis);
+        primaryGroups = new ExpiringCache<>(maxPlayers, ttlMillis);
+        playerGroups = new ExpiringCache<>(maxPlayers, ttlMillis);
+        memberships = new ExpiringCache<>(maxPlayers, ttlMillis);
+        groups = new ExpiringCache<>(1, ttlMillis);
+    }
+
+    @Override
+    public String getPlayerPrefix(UUID uuid) {
+        return getAffix(uuid, GLOBAL, false).raw;
+    }
+
+    @Override
+    public String getPlayerPrefix(String world, UUID uuid) {
+        return getAffix(uuid, world == null ? NULL_WORLD : world, false).raw;
+    }
+
+    @Override
+    public String getPlayerSuffix(UUID uuid) {
+        return getAffix(uuid, GLOBAL, true).raw;
+    }
+
+    @Override
+    public String getPlayerSuffix(String world, UUID uuid) {
+        return getAffix(uuid, world == null ? NULL_WORLD : world, true).raw;
+    }
+
+    @Override
+    public String getFormattedPlayerPrefix(UUID uuid) {
+        return getAffix(uuid, GLOBAL, false).formatted;
+    }
+
+    @Override
+    public String getFormattedPlayerPrefix(String world, UUID uuid) {
+        return getAffix(uuid, world == null ? NULL_WORLD : world, false).formatted;
+    }
+
+    @Override
+    public String getFormattedPlayerSuffix(UUID uuid) {
+        return getAffix(uuid, GLOBAL, true).formatted;
+    }
+
+    @Override
+    public String getFormattedPlayerSuffix(String world, UUID uuid) {
+        return getAffix(uuid, world == null ? NULL_WORLD : world, true).formatted;
+    }
+
+    @Override
+    public void setPlayerPrefix(UUID uuid, String prefix) {
+        try {
+            super.setPlayerPrefix(uuid, prefix);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerPrefix(String world, UUID uuid, String prefix) {
+        try {
+            super.setPlayerPrefix(world, uuid, prefix);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerSuffix(UUID uuid, String suffix) {
+        try {
+            super.setPlayerSuffix(uuid, suffix);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerSuffix(String world, UUID uuid, String suffix) {
+        try {
+            super.setPlayerSuffix(world, uuid, suffix);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setGroupPrefix(String group, String prefix) {
+        try {
+            super.setGroupPrefix(group, prefix);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void setGroupPrefix(String world, String group, String prefix) {
+        try {
+            super.setGroupPrefix(world, group, prefix);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void setGroupSuffix(String group, String suffix) {
+        try {
+            super.setGroupSuffix(group, suffix);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void setGroupSuffix(String world, String group, String suffix) {
+        try {
+            super.setGroupSuffix(world, group, suffix);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public int getPlayerInfoInteger(UUID uuid, String node, int defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.INTEGER, defaultValue)) {
+            return (int) table.get(id, MetaTable.INTEGER);
+        }
+
+        int value = super.getPlayerInfoInteger(uuid, node, defaultValue);
+        table.put(id, MetaTable.INTEGER, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public int getPlayerInfoInteger(String world, UUID uuid, String node, int defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.INTEGER, defaultValue)) {
+            return (int) table.get(id, MetaTable.INTEGER);
+        }
+
+        int value = super.getPlayerInfoInteger(world, uuid, node, defaultValue);
+        table.put(id, MetaTable.INTEGER, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public int getGroupInfoInteger(String group, String node, int defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.INTEGER, defaultValue)) {
+            return (int) table.get(id, MetaTable.INTEGER);
+        }
+
+        int value = super.getGroupInfoInteger(group, node, defaultValue);
+        table.put(id, MetaTable.INTEGER, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public int getGroupInfoInteger(String world, String group, String node, int defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.INTEGER, defaultValue)) {
+            return (int) table.get(id, MetaTable.INTEGER);
+        }
+
+        int value = super.getGroupInfoInteger(world, group, node, defaultValue);
+        table.put(id, MetaTable.INTEGER, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public void setPlayerInfoInteger(UUID uuid, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoInteger(String world, UUID uuid, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(world, uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setGroupInfoInteger(String group, String node, int value) {
+        try {
+            super.setGroupInfoInteger(group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public void setGroupInfoInteger(String world, String group, String node, int value) {
+        try {
+            super.setGroupInfoInteger(world, group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public double getPlayerInfoDouble(UUID uuid, String node, double defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.DOUBLE, MetaTable.encode(defaultValue))) {
+            return Double.longBitsToDouble(table.get(id, MetaTable.DOUBLE));
+        }
+
+        double value = super.getPlayerInfoDouble(uuid, node, defaultValue);
+        table.put(id, MetaTable.DOUBLE, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public double getPlayerInfoDouble(String world, UUID uuid, String node, double defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.DOUBLE, MetaTable.encode(defaultValue))) {
+            return Double.longBitsToDouble(table.get(id, MetaTable.DOUBLE));
+        }
+
+        double value = super.getPlayerInfoDouble(world, uuid, node, defaultValue);
+        table.put(id, MetaTable.DOUBLE, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public double getGroupInfoDouble(String group, String node, double defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.DOUBLE, MetaTable.encode(defaultValue))) {
+            return Double.longBitsToDouble(table.get(id, MetaTable.DOUBLE));
+        }
+
+        double value = super.getGroupInfoDouble(group, node, defaultValue);
+        table.put(id, MetaTable.DOUBLE, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public double getGroupInfoDouble(String world, String group, String node, double defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.DOUBLE, MetaTable.encode(defaultValue))) {
+            return Double.longBitsToDouble(table.get(id, MetaTable.DOUBLE));
+        }
+
+        double value = super.getGroupInfoDouble(world, group, node, defaultValue);
+        table.put(id, MetaTable.DOUBLE, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public void setPlayerInfoDouble(UUID uuid, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoDouble(String world, UUID uuid, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(world, uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setGroupInfoDouble(String group, String node, double value) {
+        try {
+            super.setGroupInfoDouble(group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public void setGroupInfoDouble(String world, String group, String node, double value) {
+        try {
+            super.setGroupInfoDouble(world, group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(UUID uuid, String node, boolean defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.BOOLEAN, MetaTable.encode(defaultValue))) {
+            return table.get(id, MetaTable.BOOLEAN) != 0L;
+        }
+
+        boolean value = super.getPlayerInfoBoolean(uuid, node, defaultValue);
+        table.put(id, MetaTable.BOOLEAN, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(String world, UUID uuid, String node, boolean defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.BOOLEAN, MetaTable.encode(defaultValue))) {
+            return table.get(id, MetaTable.BOOLEAN) != 0L;
+        }
+
+        boolean value = super.getPlayerInfoBoolean(world, uuid, node, defaultValue);
+        table.put(id, MetaTable.BOOLEAN, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String group, String node, boolean defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.BOOLEAN, MetaTable.encode(defaultValue))) {
+            return table.get(id, MetaTable.BOOLEAN) != 0L;
+        }
+
+        boolean value = super.getGroupInfoBoolean(group, node, defaultValue);
+        table.put(id, MetaTable.BOOLEAN, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String world, String group, String node, boolean defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, MetaTable.BOOLEAN, MetaTable.encode(defaultValue))) {
+            return table.get(id, MetaTable.BOOLEAN) != 0L;
+        }
+
+        boolean value = super.getGroupInfoBoolean(world, group, node, defaultValue);
+        table.put(id, MetaTable.BOOLEAN, MetaTable.encode(value), MetaTable.encode(defaultValue));
+        return value;
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(UUID uuid, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(String world, UUID uuid, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(world, uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String group, String node, boolean value) {
+        try {
+            super.setGroupInfoBoolean(group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String world, String group, String node, boolean value) {
+        try {
+            super.setGroupInfoBoolean(world, group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public String getPlayerInfoString(UUID uuid, String node, String defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, defaultValue)) {
+            return table.getString(id);
+        }
+
+        String value = super.getPlayerInfoString(uuid, node, defaultValue);
+        table.putString(id, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public String getPlayerInfoString(String world, UUID uuid, String node, String defaultValue) {
+        @NotNull MetaTable table = getPlayerTable(uuid, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, defaultValue)) {
+            return table.getString(id);
+        }
+
+        String value = super.getPlayerInfoString(world, uuid, node, defaultValue);
+        table.putString(id, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public String getGroupInfoString(String group, String node, String defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, GLOBAL);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, defaultValue)) {
+            return table.getString(id);
+        }
+
+        String value = super.getGroupInfoString(group, node, defaultValue);
+        table.putString(id, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public String getGroupInfoString(String world, String group, String node, String defaultValue) {
+        @NotNull MetaTable table = getGroupTable(group, world == null ? NULL_WORLD : world);
+        int id = getNodeId(node);
+
+        if (isCached(table, id, defaultValue)) {
+            return table.getString(id);
+        }
+
+        String value = super.getGroupInfoString(world, group, node, defaultValue);
+        table.putString(id, value, defaultValue);
+        return value;
+    }
+
+    @Override
+    public void setPlayerInfoString(UUID uuid, String node, String value) {
+        try {
+            super.setPlayerInfoString(uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoString(String world, UUID uuid, String node, String value) {
+        try {
+            super.setPlayerInfoString(world, uuid, node, value);
+        } finally {
+            playerMeta.invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void setGroupInfoString(String group, String node, String value) {
+        try {
+            super.setGroupInfoString(group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public void setGroupInfoString(String world, String group, String node, String value) {
+        try {
+            super.setGroupInfoString(world, group, node, value);
+        } finally {
+            invalidateGroupMeta(group);
+        }
+    }
+
+    @Override
+    public boolean playerInGroup(UUID uuid, String group) {
+        // Results are stamped with the version the map was created at, so both
+        // positive and negative answers are dropped once the player's groups change.
+        @NotNull Map<String, Boolean> results = getCurrent(memberships, uuid, membershipsLoader);
+        @NotNull String key = group == null ? NULL_KEY : group;
+        @Nullable Boolean result = results.get(key);
+
+        if (result == null) {
+            misses.increment();
+            result = super.playerInGroup(uuid, group);
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public String[] getPlayerGroups(UUID uuid) {
+        @Nullable String[] names = getCurrent(playerGroups, uuid, playerGroupsLoader);
+        return names == null ? null : names.clone();
+    }
+
+    @Override
+    public String getPrimaryGroup(UUID uuid) {
+        return getCurrent(primaryGroups, uuid, primaryGroupLoader);
+    }
+
+    @Override
+    public String[] getGroups() {
+        lookups.increment();
+
+        @Nullable String[] names = groups.get(GLOBAL, groupsLoader);
+        return names == null ? null : names.clone();
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull Player player, String prefix) {
+        try {
+            super.setPlayerPrefix(player, prefix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull OfflinePlayer player, String prefix) {
+        try {
+            super.setPlayerPrefix(player, prefix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull String playerName, String prefix) {
+        try {
+            super.setPlayerPrefix(playerName, prefix);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull Player player, String prefix) {
+        try {
+            super.setPlayerPrefix(world, player, prefix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull OfflinePlayer player, String prefix) {
+        try {
+            super.setPlayerPrefix(world, player, prefix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull String playerName, String prefix) {
+        try {
+            super.setPlayerPrefix(world, playerName, prefix);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull Player player, String suffix) {
+        try {
+            super.setPlayerSuffix(player, suffix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull OfflinePlayer player, String suffix) {
+        try {
+            super.setPlayerSuffix(player, suffix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull String playerName, String suffix) {
+        try {
+            super.setPlayerSuffix(playerName, suffix);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull Player player, String suffix) {
+        try {
+            super.setPlayerSuffix(world, player, suffix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull OfflinePlayer player, String suffix) {
+        try {
+            super.setPlayerSuffix(world, player, suffix);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull String playerName, String suffix) {
+        try {
+            super.setPlayerSuffix(world, playerName, suffix);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull Player player, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull OfflinePlayer player, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull String playerName, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull Player player, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull OfflinePlayer player, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull String playerName, String node, int value) {
+        try {
+            super.setPlayerInfoInteger(world, playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull Player player, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull OfflinePlayer player, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull String playerName, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull Player player, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull OfflinePlayer player, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull String playerName, String node, double value) {
+        try {
+            super.setPlayerInfoDouble(world, playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull Player player, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull OfflinePlayer player, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull String playerName, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull Player player, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull OfflinePlayer player, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean value) {
+        try {
+            super.setPlayerInfoBoolean(world, playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull Player player, String node, String value) {
+        try {
+            super.setPlayerInfoString(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull OfflinePlayer player, String node, String value) {
+        try {
+            super.setPlayerInfoString(player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull String playerName, String node, String value) {
+        try {
+            super.setPlayerInfoString(playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull Player player, String node, String value) {
+        try {
+            super.setPlayerInfoString(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull OfflinePlayer player, String node, String value) {
+        try {
+            super.setPlayerInfoString(world, player, node, value);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull String playerName, String node, String value) {
+        try {
+            super.setPlayerInfoString(world, playerName, node, value);
+        } finally {
+            invalidatePlayers();
+        }
+    }
+
+    /**
+     * Removes all cached prefixes, suffixes, info nodes and groups of a player.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        players.invalidate(uuid);
+        playerMeta.invalidate(uuid);
+        primaryGroups.invalidate(uuid);
+        playerGroups.invalidate(uuid);
+        memberships.invalidate(uuid);
+    }
+
+    /**
+     * Removes all cached prefixes, suffixes, info nodes and groups.
+     */
+    public void invalidateAll() {
+        players.invalidateAll();
+        playerMeta.invalidateAll();
+        groupMeta.invalidateAll();
+        primaryGroups.invalidateAll();
+        playerGroups.invalidateAll();
+        memberships.invalidateAll();
+        groups.invalidateAll();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return lookups.sum() - misses.sum();
+    }
+
+    /**
+     * Gets the number of lookups forwarded to the provider.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of players evicted because the cache was full.
+     *
+     * @return The number of size-based evictions.
+     */
+    public long getEvictions() {
+        return players.getEvictions() + playerMeta.getEvictions() + groupMeta.getEvictions()
+                + primaryGroups.getEvictions() + playerGroups.getEvictions() + memberships.getEvictions();
+    }
+
+    /**
+     * Gets a player's prefix or suffix, loading it from the provider if it isn't cached.
+     *
+     * @param uuid   The UUID of the player.
+     * @param world  The world key; {@link #GLOBAL} for the lookup without a world.
+     * @param suffix Whether to get the suffix rather than the prefix.
+     * @return The cached prefix or suffix.
+     */
+    private @NotNull Affix getAffix(@NotNull UUID uuid, @NotNull String world, boolean suffix) {
+        lookups.increment();
+
+        @NotNull PlayerAffixes affixes = players.get(uuid, key -> new PlayerAffixes());
+        @NotNull Map<String, Affix> entries = suffix ? affixes.suffixes : affixes.prefixes;
+        @Nullable Affix affix = entries.get(world);
+
+        if (affix == null) {
+            misses.increment();
+            affix = new Affix(load(uuid, world, suffix));
+            entries.put(world, affix);
+        }
+        return affix;
+    }
+
+    /**
+     * Loads a player's prefix or suffix from the provider.
+     *
+     * @param uuid   The UUID of the player.
+     * @param world  The world key; {@link #GLOBAL} for the lookup without a world.
+     * @param suffix Whether to load the suffix rather than the prefix.
+     * @return The prefix or suffix returned by the provider.
+     */
+    private @Nullable String load(@NotNull UUID uuid, @NotNull String world, boolean suffix) {
+        @NotNull Chat delegate = getDelegate();
+
+        if (GLOBAL.equals(world)) {
+            return suffix ? delegate.getPlayerSuffix(uuid) : delegate.getPlayerPrefix(uuid);
+        }
+
+        @Nullable String worldName = NULL_WORLD.equals(world) ? null : world;
+        return suffix ? delegate.getPlayerSuffix(worldName, uuid) : delegate.getPlayerPrefix(worldName, uuid);
+    }
+
+    /**
+     * Gets a player's info node table for a world, creating it if it isn't cached.
+     *
+     * @param uuid  The UUID of the player.
+     * @param world The world key; {@link #GLOBAL} for the lookup without a world.
+     * @return The table.
+     */
+    private @NotNull MetaTable getPlayerTable(@NotNull UUID uuid, @NotNull String world) {
+        return MetaTable.of(playerMeta.get(uuid, key -> new ConcurrentHashMap<>()), world);
+    }
+
+    /**
+     * Gets a group's info node table for a world, creating it if it isn't cached.
+     *
+     * @param group The name of the group.
+     * @param world The world key; {@link #GLOBAL} for the lookup without a world.
+     * @return The table.
+     */
+    private @NotNull MetaTable getGroupTable(@Nullable String group, @NotNull String world) {
+        return MetaTable.of(groupMeta.get(group == null ? NULL_KEY : group, key -> new ConcurrentHashMap<>()), world);
+    }
+
+    /**
+     * Removes the cached prefixes, suffixes, info nodes and groups of every player.
+     * Used when a player was changed by name, as the provider may not have resolved
+     * the name to the player Vault would.
+     */
+    private void invalidatePlayers() {
+        players.invalidateAll();
+        playerMeta.invalidateAll();
+        primaryGroups.invalidateAll();
+        playerGroups.invalidateAll();
+        memberships.invalidateAll();
+    }
+
+    /**
+     * Removes the cached info nodes of a group, and of all players, who may inherit them.
+     *
+     * @param group The name of the group.
+     */
+    private void invalidateGroupMeta(@Nullable String group) {
+        groupMeta.invalidate(group == null ? NULL_KEY : group);
+        playerMeta.invalidateAll();
+    }
+
+    /**
+     * Gets the interned id of an info node, assigning the next id on first use.
+     *
+     * @param node The info node.
+     * @return The node's id.
+     */
+    private int getNodeId(@Nullable String node) {
+        @NotNull String key = node == null ? NULL_KEY : node;
+        @Nullable Integer id = nodeIds.get(key);
+        return id != null ? id : nodeIds.computeIfAbsent(key, name -> nextNodeId.getAndIncrement());
+    }
+
+    /**
+     * Checks if a primitive info node value is cached, counting the lookup.
+     *
+     * @param table        The player's or group's table.
+     * @param id           The interned node id.
+     * @param type         The value type.
+     * @param defaultValue The default, encoded as the value is.
+     * @return Whether the value is cached.
+     */
+    private boolean isCached(@NotNull MetaTable table, int id, int type, long defaultValue) {
+        lookups.increment();
+
+        if (table.contains(id, type, defaultValue)) {
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Checks if a string info node value is cached, counting the lookup.
+     *
+     * @param table        The player's or group's table.
+     * @param id           The interned node id.
+     * @param defaultValue The default.
+     * @return Whether the value is cached.
+     */
+    private boolean isCached(@NotNull MetaTable table, int id, @Nullable String defaultValue) {
+        lookups.increment();
+
+        if (table.containsString(id, defaultValue)) {
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Gets a player's cached group value, reloading it if their groups changed since it was loaded.
+     *
+     * @param cache  The cache of the value.
+     * @param uuid   The UUID of the player.
+     * @param loader The function used to load the value.
+     * @param <V>    The value type.
+     * @return The current value.
+     */
+    private <V> V getCurrent(@NotNull ExpiringCache<UUID, Versioned<V>> cache, @NotNull UUID uuid,
+                             @NotNull Function<UUID, Versioned<V>> loader) {
+        lookups.increment();
+
+        @NotNull Versioned<V> entry = cache.get(uuid, loader);
+
+        if (entry.version != GroupVersions.get(uuid)) {
+            cache.invalidate(uuid);
+            entry = cache.get(uuid, loader);
+        }
+        return entry.value;
+    }
+
+    /**
+     * Loads a player's primary group from the provider.
+     *
+     * @param uuid The UUID of the player.
+     * @return The primary group, stamped with the version read before loading it.
+     */
+    private @NotNull Versioned<String> loadPrimaryGroup(@NotNull UUID uuid) {
+        misses.increment();
+        long version = GroupVersions.get(uuid);
+        return new Versioned<>(version, getDelegate().getPrimaryGroup(uuid));
+    }
+
+    /**
+     * Loads a player's groups from the provider.
+     *
+     * @param uuid The UUID of the player.
+     * @return The groups, stamped with the version read before loading them.
+     */
+    private @NotNull Versioned<String[]> loadPlayerGroups(@NotNull UUID uuid) {
+        misses.increment();
+        long version = GroupVersions.get(uuid);
+        return new Versioned<>(version, getDelegate().getPlayerGroups(uuid));
+    }
+
+    /**
+     * Loads all groups from the provider.
+     *
+     * @param key The cache key; unused.
+     * @return The groups.
+     */
+    private String[] loadGroups(@NotNull String key) {
+        misses.increment();
+        return getDelegate().getGroups();
+    }
+
+    /**
+     * The cached prefixes and suffixes of a player, keyed by world.
+     */
+    private static final class PlayerAffixes {
+
+        private final Map<String, Affix> prefixes = new ConcurrentHashMap<>();
+        private final Map<String, Affix> suffixes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * A prefix or suffix as returned by the provider, and with its color codes translated.
+     */
+    private static final class Affix {
+
+        private final @Nullable String raw;
+        private final @Nullable String formatted;
+
+        private Affix(@Nullable String raw) {
+            this.raw = raw;
+            formatted = translateColors(raw);
+        }
+    }
+
+    /**
+     * A value along with the group membership version of the player it was loaded for.
+     *
+     * @param <V> The value type.
+     */
+    private static final class Versioned<V> {
+
+        private final long version;
+        private final V value;
+
+        private Versioned(long version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -20,7 +20,8 @@ package net.milkbowl.vault.chat;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.milkbowl.vault.permission.Permission;
-import org.bukkit.Bukkit;
+import net.milkbowl.vault.util.PlayerIndex;
+import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -76,13 +77,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPlayerPrefix(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerPrefix(player);
-        } else {
-            return getPlayerPrefix(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerPrefix(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -108,13 +103,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPlayerPrefix(String world, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerPrefix(world, player);
-        } else {
-            return getPlayerPrefix(world, Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerPrefix(world, PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -139,13 +128,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerPrefix(@NotNull String playerName, String prefix) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerPrefix(player, prefix);
-        } else {
-            setPlayerPrefix(Bukkit.getOfflinePlayer(playerName), prefix);
-        }
+        setPlayerPrefix(PlayerIndex.getUniqueId(playerName), prefix);
     }
 
     /**
@@ -171,13 +154,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerPrefix(String world, @NotNull String playerName, String prefix) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerPrefix(world, player, prefix);
-        } else {
-            setPlayerPrefix(world, Bukkit.getOfflinePlayer(playerName), prefix);
-        }
+        setPlayerPrefix(world, PlayerIndex.getUniqueId(playerName), prefix);
     }
 
     /**
@@ -202,13 +179,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPlayerSuffix(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerSuffix(player);
-        } else {
-            return getPlayerSuffix(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerSuffix(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -234,13 +205,49 @@ public abstract class Chat {
 
     @Deprecated
     public String getPlayerSuffix(String world, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
+        return getPlayerSuffix(world, PlayerIndex.getUniqueId(playerName));
+    }
 
-        if (player != null) {
-            return getPlayerSuffix(world, player);
-        } else {
-            return getPlayerSuffix(world, Bukkit.getOfflinePlayer(playerName));
-        }
+    /**
+     * Retrieves the prefix of a player with its {@code &} color codes translated.
+     *
+     * @param uuid The UUID of the player whose prefix is being queried.
+     * @return The player's color-translated prefix.
+     */
+    public String getFormattedPlayerPrefix(UUID uuid) {
+        return translateColors(getPlayerPrefix(uuid));
+    }
+
+    /**
+     * Retrieves the prefix of a player in a specific world with its {@code &} color codes translated.
+     *
+     * @param world The world in which to look up the prefix.
+     * @param uuid  The UUID of the player whose prefix is being queried.
+     * @return The player's color-translated prefix in the specified world.
+     */
+    public String getFormattedPlayerPrefix(String world, UUID uuid) {
+        return translateColors(getPlayerPrefix(world, uuid));
+    }
+
+    /**
+     * Retrieves the suffix of a player with its {@code &} color codes translated.
+     *
+     * @param uuid The UUID of the player whose suffix is being queried.
+     * @return The player's color-translated suffix.
+     */
+    public String getFormattedPlayerSuffix(UUID uuid) {
+        return translateColors(getPlayerSuffix(uuid));
+    }
+
+    /**
+     * Retrieves the suffix of a player in a specific world with its {@code &} color codes translated.
+     *
+     * @param world The world in which to look up the suffix.
+     * @param uuid  The UUID of the player whose suffix is being queried.
+     * @return The player's color-translated suffix in the specified world.
+     */
+    public String getFormattedPlayerSuffix(String world, UUID uuid) {
+        return translateColors(getPlayerSuffix(world, uuid));
     }
 
     /**
@@ -265,13 +272,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerSuffix(@NotNull String playerName, String suffix) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerSuffix(player, suffix);
-        } else {
-            setPlayerSuffix(Bukkit.getOfflinePlayer(playerName), suffix);
-        }
+        setPlayerSuffix(PlayerIndex.getUniqueId(playerName), suffix);
     }
 
     /**
@@ -297,13 +298,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerSuffix(String world, @NotNull String playerName, String suffix) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerSuffix(world, player, suffix);
-        } else {
-            setPlayerSuffix(world, Bukkit.getOfflinePlayer(playerName), suffix);
-        }
+        setPlayerSuffix(world, PlayerIndex.getUniqueId(playerName), suffix);
     }
 
     /**
@@ -400,13 +395,7 @@ public abstract class Chat {
 
     @Deprecated
     public int getPlayerInfoInteger(@NotNull String playerName, String node, int defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoInteger(player, node, defaultValue);
-        } else {
-            return getPlayerInfoInteger(Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoInteger(PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -434,13 +423,7 @@ public abstract class Chat {
 
     @Deprecated
     public int getPlayerInfoInteger(String world, @NotNull String playerName, String node, int defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoInteger(world, player, node, defaultValue);
-        } else {
-            return getPlayerInfoInteger(world, Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoInteger(world, PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -466,13 +449,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoInteger(@NotNull String playerName, String node, int value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoInteger(player, node, value);
-        } else {
-            setPlayerInfoInteger(Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoInteger(PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -499,13 +476,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoInteger(String world, @NotNull String playerName, String node, int value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoInteger(world, player, node, value);
-        } else {
-            setPlayerInfoInteger(world, Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoInteger(world, PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -572,13 +543,7 @@ public abstract class Chat {
 
     @Deprecated
     public double getPlayerInfoDouble(@NotNull String playerName, String node, double defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoDouble(player, node, defaultValue);
-        } else {
-            return getPlayerInfoDouble(Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoDouble(PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -606,13 +571,7 @@ public abstract class Chat {
 
     @Deprecated
     public double getPlayerInfoDouble(String world, @NotNull String playerName, String node, double defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoDouble(world, player, node, defaultValue);
-        } else {
-            return getPlayerInfoDouble(world, Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoDouble(world, PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -638,13 +597,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoDouble(@NotNull String playerName, String node, double value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoDouble(player, node, value);
-        } else {
-            setPlayerInfoDouble(Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoDouble(PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -671,13 +624,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoDouble(String world, @NotNull String playerName, String node, double value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoDouble(world, player, node, value);
-        } else {
-            setPlayerInfoDouble(world, Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoDouble(world, PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -744,13 +691,7 @@ public abstract class Chat {
 
     @Deprecated
     public boolean getPlayerInfoBoolean(@NotNull String playerName, String node, boolean defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoBoolean(player, node, defaultValue);
-        } else {
-            return getPlayerInfoBoolean(Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoBoolean(PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -778,13 +719,7 @@ public abstract class Chat {
 
     @Deprecated
     public boolean getPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoBoolean(world, player, node, defaultValue);
-        } else {
-            return getPlayerInfoBoolean(world, Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoBoolean(world, PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -810,13 +745,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoBoolean(@NotNull String playerName, String node, boolean value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoBoolean(player, node, value);
-        } else {
-            setPlayerInfoBoolean(Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoBoolean(PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -843,13 +772,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoBoolean(world, player, node, value);
-        } else {
-            setPlayerInfoBoolean(world, Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoBoolean(world, PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -916,13 +839,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPlayerInfoString(@NotNull String playerName, String node, String defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoString(player, node, defaultValue);
-        } else {
-            return getPlayerInfoString(Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoString(PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -950,13 +867,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPlayerInfoString(String world, @NotNull String playerName, String node, String defaultValue) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerInfoString(world, player, node, defaultValue);
-        } else {
-            return getPlayerInfoString(world, Bukkit.getOfflinePlayer(playerName), node, defaultValue);
-        }
+        return getPlayerInfoString(world, PlayerIndex.getUniqueId(playerName), node, defaultValue);
     }
 
     /**
@@ -982,13 +893,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoString(@NotNull String playerName, String node, String value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoString(player, node, value);
-        } else {
-            setPlayerInfoString(Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoString(PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -1015,13 +920,7 @@ public abstract class Chat {
 
     @Deprecated
     public void setPlayerInfoString(String world, @NotNull String playerName, String node, String value) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            setPlayerInfoString(world, player, node, value);
-        } else {
-            setPlayerInfoString(world, Bukkit.getOfflinePlayer(playerName), node, value);
-        }
+        setPlayerInfoString(world, PlayerIndex.getUniqueId(playerName), node, value);
     }
 
     /**
@@ -1089,13 +988,7 @@ public abstract class Chat {
 
     @Deprecated
     public boolean playerInGroup(@NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerInGroup(player, group);
-        } else {
-            return playerInGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerInGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     @Deprecated
@@ -1112,13 +1005,7 @@ public abstract class Chat {
 
     @Deprecated
     public boolean playerInGroup(String world, @NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerInGroup(player, group);
-        } else {
-            return playerInGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerInGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     /**
@@ -1145,13 +1032,7 @@ public abstract class Chat {
 
     @Deprecated
     public String[] getPlayerGroups(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerGroups(player);
-        } else {
-            return getPlayerGroups(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerGroups(PlayerIndex.getUniqueId(playerName));
     }
 
     @Deprecated
@@ -1168,13 +1049,7 @@ public abstract class Chat {
 
     @Deprecated
     public String[] getPlayerGroups(String world, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerGroups(player);
-        } else {
-            return getPlayerGroups(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerGroups(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -1201,13 +1076,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPrimaryGroup(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPrimaryGroup(player);
-        } else {
-            return getPrimaryGroup(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPrimaryGroup(PlayerIndex.getUniqueId(playerName));
     }
 
     @Deprecated
@@ -1224,13 +1093,7 @@ public abstract class Chat {
 
     @Deprecated
     public String getPrimaryGroup(String world, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPrimaryGroup(player);
-        } else {
-            return getPrimaryGroup(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPrimaryGroup(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -1241,4 +1104,14 @@ public abstract class Chat {
     public String[] getGroups() {
         return permission.getGroups();
     }
+
+    /**
+     * Translates the {@code &} color codes of a prefix or suffix.
+     *
+     * @param text The text to translate.
+     * @return The translated text, or null if the text is null.
+     */
+    protected static @Nullable String translateColors(@Nullable String text) {
+        return text == null ? null : ChatColor.translateAlternateColorCodes('&', text);
+    }
 }
@@ -0,0 +1,874 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.chat;
+
+import lombok.Getter;
+import net.milkbowl.vault.util.ServiceDecorator;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Base class for Chat decorators; forwards every call to the decorated provider.
+ *
+ * @author Foulest
+ */
+@Getter
+public abstract class ChatDecorator extends Chat implements ServiceDecorator<Chat> {
+
+    private final @NotNull Chat delegate;
+
+    protected ChatDecorator(@NotNull Chat delegate) {
+        super(delegate.getPermission());
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public String getPlayerPrefix(UUID uuid) {
+        return delegate.getPlayerPrefix(uuid);
+    }
+
+    @Override
+    public String getPlayerPrefix(String world, UUID uuid) {
+        return delegate.getPlayerPrefix(world, uuid);
+    }
+
+    @Override
+    public void setPlayerPrefix(UUID uuid, String prefix) {
+        delegate.setPlayerPrefix(uuid, prefix);
+    }
+
+    @Override
+    public void setPlayerPrefix(String world, UUID uuid, String prefix) {
+        delegate.setPlayerPrefix(world, uuid, prefix);
+    }
+
+    @Override
+    public String getPlayerSuffix(UUID uuid) {
+        return delegate.getPlayerSuffix(uuid);
+    }
+
+    @Override
+    public String getPlayerSuffix(String world, UUID uuid) {
+        return delegate.getPlayerSuffix(world, uuid);
+    }
+
+    @Override
+    public String getFormattedPlayerPrefix(UUID uuid) {
+        return delegate.getFormattedPlayerPrefix(uuid);
+    }
+
+    @Override
+    public String getFormattedPlayerPrefix(String world, UUID uuid) {
+        return delegate.getFormattedPlayerPrefix(world, uuid);
+    }
+
+    @Override
+    public String getFormattedPlayerSuffix(UUID uuid) {
+        return delegate.getFormattedPlayerSuffix(uuid);
+    }
+
+    @Override
+    public String getFormattedPlayerSuffix(String world, UUID uuid) {
+        return delegate.getFormattedPlayerSuffix(world, uuid);
+    }
+
+    @Override
+    public void setPlayerSuffix(UUID uuid, String suffix) {
+        delegate.setPlayerSuffix(uuid, suffix);
+    }
+
+    @Override
+    public void setPlayerSuffix(String world, UUID uuid, String suffix) {
+        delegate.setPlayerSuffix(world, uuid, suffix);
+    }
+
+    @Override
+    public String getGroupPrefix(String group) {
+        return delegate.getGroupPrefix(group);
+    }
+
+    @Override
+    public String getGroupPrefix(String world, String group) {
+        return delegate.getGroupPrefix(world, group);
+    }
+
+    @Override
+    public void setGroupPrefix(String group, String prefix) {
+        delegate.setGroupPrefix(group, prefix);
+    }
+
+    @Override
+    public void setGroupPrefix(String world, String group, String prefix) {
+        delegate.setGroupPrefix(world, group, prefix);
+    }
+
+    @Override
+    public String getGroupSuffix(String group) {
+        return delegate.getGroupSuffix(group);
+    }
+
+    @Override
+    public String getGroupSuffix(String world, String group) {
+        return delegate.getGroupSuffix(world, group);
+    }
+
+    @Override
+    public void setGroupSuffix(String group, String suffix) {
+        delegate.setGroupSuffix(group, suffix);
+    }
+
+    @Override
+    public void setGroupSuffix(String world, String group, String suffix) {
+        delegate.setGroupSuffix(world, group, suffix);
+    }
+
+    @Override
+    public int getPlayerInfoInteger(UUID uuid, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(uuid, node, defaultValue);
+    }
+
+    @Override
+    public int getPlayerInfoInteger(String world, UUID uuid, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(world, uuid, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoInteger(UUID uuid, String node, int value) {
+        delegate.setPlayerInfoInteger(uuid, node, value);
+    }
+
+    @Override
+    public void setPlayerInfoInteger(String world, UUID uuid, String node, int value) {
+        delegate.setPlayerInfoInteger(world, uuid, node, value);
+    }
+
+    @Override
+    public int getGroupInfoInteger(String group, String node, int defaultValue) {
+        return delegate.getGroupInfoInteger(group, node, defaultValue);
+    }
+
+    @Override
+    public int getGroupInfoInteger(String world, String group, String node, int defaultValue) {
+        return delegate.getGroupInfoInteger(world, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoInteger(String group, String node, int value) {
+        delegate.setGroupInfoInteger(group, node, value);
+    }
+
+    @Override
+    public void setGroupInfoInteger(String world, String group, String node, int value) {
+        delegate.setGroupInfoInteger(world, group, node, value);
+    }
+
+    @Override
+    public double getPlayerInfoDouble(UUID uuid, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(uuid, node, defaultValue);
+    }
+
+    @Override
+    public double getPlayerInfoDouble(String world, UUID uuid, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(world, uuid, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoDouble(UUID uuid, String node, double value) {
+        delegate.setPlayerInfoDouble(uuid, node, value);
+    }
+
+    @Override
+    public void setPlayerInfoDouble(String world, UUID uuid, String node, double value) {
+        delegate.setPlayerInfoDouble(world, uuid, node, value);
+    }
+
+    @Override
+    public double getGroupInfoDouble(String group, String node, double defaultValue) {
+        return delegate.getGroupInfoDouble(group, node, defaultValue);
+    }
+
+    @Override
+    public double getGroupInfoDouble(String world, String group, String node, double defaultValue) {
+        return delegate.getGroupInfoDouble(world, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoDouble(String group, String node, double value) {
+        delegate.setGroupInfoDouble(group, node, value);
+    }
+
+    @Override
+    public void setGroupInfoDouble(String world, String group, String node, double value) {
+        delegate.setGroupInfoDouble(world, group, node, value);
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(UUID uuid, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(uuid, node, defaultValue);
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(String world, UUID uuid, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(world, uuid, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(UUID uuid, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(uuid, node, value);
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(String world, UUID uuid, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(world, uuid, node, value);
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String group, String node, boolean defaultValue) {
+        return delegate.getGroupInfoBoolean(group, node, defaultValue);
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String world, String group, String node, boolean defaultValue) {
+        return delegate.getGroupInfoBoolean(world, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String group, String node, boolean value) {
+        delegate.setGroupInfoBoolean(group, node, value);
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String world, String group, String node, boolean value) {
+        delegate.setGroupInfoBoolean(world, group, node, value);
+    }
+
+    @Override
+    public String getPlayerInfoString(UUID uuid, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(uuid, node, defaultValue);
+    }
+
+    @Override
+    public String getPlayerInfoString(String world, UUID uuid, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(world, uuid, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoString(UUID uuid, String node, String value) {
+        delegate.setPlayerInfoString(uuid, node, value);
+    }
+
+    @Override
+    public void setPlayerInfoString(String world, UUID uuid, String node, String value) {
+        delegate.setPlayerInfoString(world, uuid, node, value);
+    }
+
+    @Override
+    public String getGroupInfoString(String group, String node, String defaultValue) {
+        return delegate.getGroupInfoString(group, node, defaultValue);
+    }
+
+    @Override
+    public String getGroupInfoString(String world, String group, String node, String defaultValue) {
+        return delegate.getGroupInfoString(world, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoString(String group, String node, String value) {
+        delegate.setGroupInfoString(group, node, value);
+    }
+
+    @Override
+    public void setGroupInfoString(String world, String group, String node, String value) {
+        delegate.setGroupInfoString(world, group, node, value);
+    }
+
+    @Override
+    public boolean playerInGroup(UUID uuid, String group) {
+        return delegate.playerInGroup(uuid, group);
+    }
+
+    @Override
+    public String[] getPlayerGroups(UUID uuid) {
+        return delegate.getPlayerGroups(uuid);
+    }
+
+    @Override
+    public String getPrimaryGroup(UUID uuid) {
+        return delegate.getPrimaryGroup(uuid);
+    }
+
+    @Override
+    public String[] getGroups() {
+        return delegate.getGroups();
+    }
+
+    // Deprecated overloads are forwarded too, as providers may override them,
+    // for example to resolve names without a Bukkit lookup.
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(@NotNull Player player) {
+        return delegate.getPlayerPrefix(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(@NotNull OfflinePlayer player) {
+        return delegate.getPlayerPrefix(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(@NotNull String playerName) {
+        return delegate.getPlayerPrefix(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(String world, @NotNull Player player) {
+        return delegate.getPlayerPrefix(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(String world, @NotNull OfflinePlayer player) {
+        return delegate.getPlayerPrefix(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(String world, @NotNull String playerName) {
+        return delegate.getPlayerPrefix(world, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull Player player, String prefix) {
+        delegate.setPlayerPrefix(player, prefix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull OfflinePlayer player, String prefix) {
+        delegate.setPlayerPrefix(player, prefix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull String playerName, String prefix) {
+        delegate.setPlayerPrefix(playerName, prefix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull Player player, String prefix) {
+        delegate.setPlayerPrefix(world, player, prefix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull OfflinePlayer player, String prefix) {
+        delegate.setPlayerPrefix(world, player, prefix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull String playerName, String prefix) {
+        delegate.setPlayerPrefix(world, playerName, prefix);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(@NotNull Player player) {
+        return delegate.getPlayerSuffix(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(@NotNull OfflinePlayer player) {
+        return delegate.getPlayerSuffix(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(@NotNull String playerName) {
+        return delegate.getPlayerSuffix(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(String world, @NotNull Player player) {
+        return delegate.getPlayerSuffix(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(String world, @NotNull OfflinePlayer player) {
+        return delegate.getPlayerSuffix(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(String world, @NotNull String playerName) {
+        return delegate.getPlayerSuffix(world, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull Player player, String suffix) {
+        delegate.setPlayerSuffix(player, suffix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull OfflinePlayer player, String suffix) {
+        delegate.setPlayerSuffix(player, suffix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull String playerName, String suffix) {
+        delegate.setPlayerSuffix(playerName, suffix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull Player player, String suffix) {
+        delegate.setPlayerSuffix(world, player, suffix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull OfflinePlayer player, String suffix) {
+        delegate.setPlayerSuffix(world, player, suffix);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull String playerName, String suffix) {
+        delegate.setPlayerSuffix(world, playerName, suffix);
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(@NotNull Player player, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(@NotNull OfflinePlayer player, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(@NotNull String playerName, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(String world, @NotNull Player player, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(String world, @NotNull OfflinePlayer player, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(String world, @NotNull String playerName, String node, int defaultValue) {
+        return delegate.getPlayerInfoInteger(world, playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull Player player, String node, int value) {
+        delegate.setPlayerInfoInteger(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull OfflinePlayer player, String node, int value) {
+        delegate.setPlayerInfoInteger(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull String playerName, String node, int value) {
+        delegate.setPlayerInfoInteger(playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull Player player, String node, int value) {
+        delegate.setPlayerInfoInteger(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull OfflinePlayer player, String node, int value) {
+        delegate.setPlayerInfoInteger(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull String playerName, String node, int value) {
+        delegate.setPlayerInfoInteger(world, playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(@NotNull Player player, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(@NotNull OfflinePlayer player, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(@NotNull String playerName, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(String world, @NotNull Player player, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(String world, @NotNull OfflinePlayer player, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(String world, @NotNull String playerName, String node, double defaultValue) {
+        return delegate.getPlayerInfoDouble(world, playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull Player player, String node, double value) {
+        delegate.setPlayerInfoDouble(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull OfflinePlayer player, String node, double value) {
+        delegate.setPlayerInfoDouble(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull String playerName, String node, double value) {
+        delegate.setPlayerInfoDouble(playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull Player player, String node, double value) {
+        delegate.setPlayerInfoDouble(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull OfflinePlayer player, String node, double value) {
+        delegate.setPlayerInfoDouble(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull String playerName, String node, double value) {
+        delegate.setPlayerInfoDouble(world, playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(@NotNull Player player, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(@NotNull OfflinePlayer player, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(@NotNull String playerName, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(String world, @NotNull Player player, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(String world, @NotNull OfflinePlayer player, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean defaultValue) {
+        return delegate.getPlayerInfoBoolean(world, playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull Player player, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull OfflinePlayer player, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull String playerName, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull Player player, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull OfflinePlayer player, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean value) {
+        delegate.setPlayerInfoBoolean(world, playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(@NotNull Player player, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(@NotNull OfflinePlayer player, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(@NotNull String playerName, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(String world, @NotNull Player player, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(String world, @NotNull OfflinePlayer player, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(world, player, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(String world, @NotNull String playerName, String node, String defaultValue) {
+        return delegate.getPlayerInfoString(world, playerName, node, defaultValue);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull Player player, String node, String value) {
+        delegate.setPlayerInfoString(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull OfflinePlayer player, String node, String value) {
+        delegate.setPlayerInfoString(player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull String playerName, String node, String value) {
+        delegate.setPlayerInfoString(playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull Player player, String node, String value) {
+        delegate.setPlayerInfoString(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull OfflinePlayer player, String node, String value) {
+        delegate.setPlayerInfoString(world, player, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull String playerName, String node, String value) {
+        delegate.setPlayerInfoString(world, playerName, node, value);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull Player player, String group) {
+        return delegate.playerInGroup(player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull OfflinePlayer player, String group) {
+        return delegate.playerInGroup(player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull String playerName, String group) {
+        return delegate.playerInGroup(playerName, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull Player player, String group) {
+        return delegate.playerInGroup(world, player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull OfflinePlayer player, String group) {
+        return delegate.playerInGroup(world, player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull String playerName, String group) {
+        return delegate.playerInGroup(world, playerName, group);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull Player player) {
+        return delegate.getPlayerGroups(player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull OfflinePlayer player) {
+        return delegate.getPlayerGroups(player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull String playerName) {
+        return delegate.getPlayerGroups(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull Player player) {
+        return delegate.getPlayerGroups(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull OfflinePlayer player) {
+        return delegate.getPlayerGroups(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull String playerName) {
+        return delegate.getPlayerGroups(world, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull Player player) {
+        return delegate.getPrimaryGroup(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull OfflinePlayer player) {
+        return delegate.getPrimaryGroup(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull String playerName) {
+        return delegate.getPrimaryGroup(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull Player player) {
+        return delegate.getPrimaryGroup(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull OfflinePlayer player) {
+        return delegate.getPrimaryGroup(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull String playerName) {
+        return delegate.getPrimaryGroup(world, playerName);
+    }
+}
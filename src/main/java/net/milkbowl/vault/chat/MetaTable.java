@@ -0,0 +1,190 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Table of the info node values of one player or group in one world, indexed by interned node id.
+ * Integer, double and boolean values are stored unboxed, as the bits of a long.
+ * <p>
+ * Each value is stored along with the default it was loaded with, as providers return
+ * the default for unset nodes; a lookup with a different default is a miss. Once stored,
+ * a value is never replaced, so a table is dropped as a whole to invalidate it.
+ *
+ * @author Foulest
+ */
+final class MetaTable {
+
+    static final int INTEGER = 0;
+    static final int DOUBLE = 1;
+    static final int BOOLEAN = 2;
+    static final int STRING = 3;
+
+    // Number of primitive types stored per node in the values and defaults arrays.
+    private static final int PRIMITIVES = 3;
+
+    private long[] values = new long[0];
+    private long[] defaults = new long[0];
+    private String[] strings = new String[0];
+    private String[] stringDefaults = new String[0];
+
+    // Bit (1 << type) is set once a value of that type is stored for the node.
+    private byte[] loaded = new byte[0];
+
+    /**
+     * Checks if a primitive value is stored for the given node and default.
+     *
+     * @param id           The interned node id.
+     * @param type         The value type; {@link #INTEGER}, {@link #DOUBLE} or {@link #BOOLEAN}.
+     * @param defaultValue The default, encoded as the value is.
+     * @return Whether the value is stored.
+     */
+    synchronized boolean contains(int id, int type, long defaultValue) {
+        return isLoaded(id, type) && defaults[id * PRIMITIVES + type] == defaultValue;
+    }
+
+    /**
+     * Gets a stored primitive value.
+     *
+     * @param id   The interned node id.
+     * @param type The value type; {@link #INTEGER}, {@link #DOUBLE} or {@link #BOOLEAN}.
+     * @return The value, encoded as the bits of a long.
+     */
+    synchronized long get(int id, int type) {
+        return values[id * PRIMITIVES + type];
+    }
+
+    /**
+     * Stores a primitive value, unless one of that type is already stored for the node.
+     *
+     * @param id           The interned node id.
+     * @param type         The value type; {@link #INTEGER}, {@link #DOUBLE} or {@link #BOOLEAN}.
+     * @param value        The value, encoded as the bits of a long.
+     * @param defaultValue The default the value was loaded with, encoded as the value is.
+     */
+    synchronized void put(int id, int type, long value, long defaultValue) {
+        if (!isLoaded(id, type)) {
+            ensureCapacity(id);
+            values[id * PRIMITIVES + type] = value;
+            defaults[id * PRIMITIVES + type] = defaultValue;
+            loaded[id] |= (byte) (1 << type);
+        }
+    }
+
+    /**
+     * Checks if a string value is stored for the given node and default.
+     *
+     * @param id           The interned node id.
+     * @param defaultValue The default.
+     * @return Whether the value is stored.
+     */
+    synchronized boolean containsString(int id, @Nullable String defaultValue) {
+        return isLoaded(id, STRING) && Objects.equals(stringDefaults[id], defaultValue);
+    }
+
+    /**
+     * Gets a stored string value.
+     *
+     * @param id The interned node id.
+     * @return The value.
+     */
+    synchronized @Nullable String getString(int id) {
+        return strings[id];
+    }
+
+    /**
+     * Stores a string value, unless one is already stored for the node.
+     *
+     * @param id           The interned node id.
+     * @param value        The value.
+     * @param defaultValue The default the value was loaded with.
+     */
+    synchronized void putString(int id, @Nullable String value, @Nullable String defaultValue) {
+        if (!isLoaded(id, STRING)) {
+            ensureCapacity(id);
+            strings[id] = value;
+            stringDefaults[id] = defaultValue;
+            loaded[id] |= (byte) (1 << STRING);
+        }
+    }
+
+    /**
+     * Checks if a value of the given type is stored for the node.
+     *
+     * @param id   The interned node id.
+     * @param type The value type.
+     * @return Whether the value is stored.
+     */
+    private boolean isLoaded(int id, int type) {
+        return id < loaded.length && (loaded[id] & (1 << type)) != 0;
+    }
+
+    /**
+     * Grows the arrays so they can hold the given node id.
+     *
+     * @param id The interned node id.
+     */
+    private void ensureCapacity(int id) {
+        if (id >= loaded.length) {
+            int capacity = Math.max(id + 1, loaded.length * 2);
+            values = Arrays.copyOf(values, capacity * PRIMITIVES);
+            defaults = Arrays.copyOf(defaults, capacity * PRIMITIVES);
+            strings = Arrays.copyOf(strings, capacity);
+            stringDefaults = Arrays.copyOf(stringDefaults, capacity);
+            loaded = Arrays.copyOf(loaded, capacity);
+        }
+    }
+
+    /**
+     * Encodes a double value, so that equal defaults (including NaN) encode the same.
+     *
+     * @param value The value.
+     * @return The encoded value.
+     */
+    static long encode(double value) {
+        return Double.doubleToLongBits(value);
+    }
+
+    /**
+     * Encodes a boolean value.
+     *
+     * @param value The value.
+     * @return The encoded value.
+     */
+    static long encode(boolean value) {
+        return value ? 1L : 0L;
+    }
+
+    /**
+     * Gets the table for the given world key, creating it if absent.
+     *
+     * @param tables The tables of a player or group, keyed by world.
+     * @param world  The world key.
+     * @return The table.
+     */
+    static @NotNull MetaTable of(@NotNull Map<String, MetaTable> tables, @NotNull String world) {
+        @Nullable MetaTable table = tables.get(world);
+        return table != null ? table : tables.computeIfAbsent(world, key -> new MetaTable());
+    }
+}
@@ -0,0 +1,1766 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.chat;
+
+import lombok.Getter;
+import net.milkbowl.vault.util.ProviderMetrics;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Chat decorator that records the call count and latency of every method
+ * forwarded to the decorated provider.
+ *
+ * @author Foulest
+ */
+public class MeteredChat extends ChatDecorator {
+
+    @Getter
+    private final @NotNull ProviderMetrics metrics;
+
+    /**
+     * Creates a new metered Chat.
+     *
+     * @param delegate The Chat provider to measure.
+     */
+    public MeteredChat(@NotNull Chat delegate) {
+        super(delegate);
+        metrics = new ProviderMetrics(delegate.getName());
+    }
+
+    @Override
+    public String getName() {
+        long start = System.nanoTime();
+
+        try {
+            return super.getName();
+        } finally {
+            metrics.record("getName()", start);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        long start = System.nanoTime();
+
+        try {
+            return super.isEnabled();
+        } finally {
+            metrics.record("isEnabled()", start);
+        }
+    }
+
+    @Override
+    public String getPlayerPrefix(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(uuid);
+        } finally {
+            metrics.record("getPlayerPrefix(UUID)", start);
+        }
+    }
+
+    @Override
+    public String getPlayerPrefix(String world, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(world, uuid);
+        } finally {
+            metrics.record("getPlayerPrefix(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerPrefix(UUID uuid, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(uuid, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerPrefix(String world, UUID uuid, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(world, uuid, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(String, UUID, String)", start);
+        }
+    }
+
+    @Override
+    public String getPlayerSuffix(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(uuid);
+        } finally {
+            metrics.record("getPlayerSuffix(UUID)", start);
+        }
+    }
+
+    @Override
+    public String getPlayerSuffix(String world, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(world, uuid);
+        } finally {
+            metrics.record("getPlayerSuffix(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public String getFormattedPlayerPrefix(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getFormattedPlayerPrefix(uuid);
+        } finally {
+            metrics.record("getFormattedPlayerPrefix(UUID)", start);
+        }
+    }
+
+    @Override
+    public String getFormattedPlayerPrefix(String world, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getFormattedPlayerPrefix(world, uuid);
+        } finally {
+            metrics.record("getFormattedPlayerPrefix(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public String getFormattedPlayerSuffix(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getFormattedPlayerSuffix(uuid);
+        } finally {
+            metrics.record("getFormattedPlayerSuffix(UUID)", start);
+        }
+    }
+
+    @Override
+    public String getFormattedPlayerSuffix(String world, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getFormattedPlayerSuffix(world, uuid);
+        } finally {
+            metrics.record("getFormattedPlayerSuffix(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerSuffix(UUID uuid, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(uuid, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerSuffix(String world, UUID uuid, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(world, uuid, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(String, UUID, String)", start);
+        }
+    }
+
+    @Override
+    public String getGroupPrefix(String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupPrefix(group);
+        } finally {
+            metrics.record("getGroupPrefix(String)", start);
+        }
+    }
+
+    @Override
+    public String getGroupPrefix(String world, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupPrefix(world, group);
+        } finally {
+            metrics.record("getGroupPrefix(String, String)", start);
+        }
+    }
+
+    @Override
+    public void setGroupPrefix(String group, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupPrefix(group, prefix);
+        } finally {
+            metrics.record("setGroupPrefix(String, String)", start);
+        }
+    }
+
+    @Override
+    public void setGroupPrefix(String world, String group, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupPrefix(world, group, prefix);
+        } finally {
+            metrics.record("setGroupPrefix(String, String, String)", start);
+        }
+    }
+
+    @Override
+    public String getGroupSuffix(String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupSuffix(group);
+        } finally {
+            metrics.record("getGroupSuffix(String)", start);
+        }
+    }
+
+    @Override
+    public String getGroupSuffix(String world, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupSuffix(world, group);
+        } finally {
+            metrics.record("getGroupSuffix(String, String)", start);
+        }
+    }
+
+    @Override
+    public void setGroupSuffix(String group, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupSuffix(group, suffix);
+        } finally {
+            metrics.record("setGroupSuffix(String, String)", start);
+        }
+    }
+
+    @Override
+    public void setGroupSuffix(String world, String group, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupSuffix(world, group, suffix);
+        } finally {
+            metrics.record("setGroupSuffix(String, String, String)", start);
+        }
+    }
+
+    @Override
+    public int getPlayerInfoInteger(UUID uuid, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(UUID, String, int)", start);
+        }
+    }
+
+    @Override
+    public int getPlayerInfoInteger(String world, UUID uuid, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(world, uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(String, UUID, String, int)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoInteger(UUID uuid, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(UUID, String, int)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoInteger(String world, UUID uuid, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(world, uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(String, UUID, String, int)", start);
+        }
+    }
+
+    @Override
+    public int getGroupInfoInteger(String group, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoInteger(group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoInteger(String, String, int)", start);
+        }
+    }
+
+    @Override
+    public int getGroupInfoInteger(String world, String group, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoInteger(world, group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoInteger(String, String, String, int)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoInteger(String group, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoInteger(group, node, value);
+        } finally {
+            metrics.record("setGroupInfoInteger(String, String, int)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoInteger(String world, String group, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoInteger(world, group, node, value);
+        } finally {
+            metrics.record("setGroupInfoInteger(String, String, String, int)", start);
+        }
+    }
+
+    @Override
+    public double getPlayerInfoDouble(UUID uuid, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public double getPlayerInfoDouble(String world, UUID uuid, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(world, uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(String, UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoDouble(UUID uuid, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoDouble(String world, UUID uuid, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(world, uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(String, UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public double getGroupInfoDouble(String group, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoDouble(group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoDouble(String, String, double)", start);
+        }
+    }
+
+    @Override
+    public double getGroupInfoDouble(String world, String group, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoDouble(world, group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoDouble(String, String, String, double)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoDouble(String group, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoDouble(group, node, value);
+        } finally {
+            metrics.record("setGroupInfoDouble(String, String, double)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoDouble(String world, String group, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoDouble(world, group, node, value);
+        } finally {
+            metrics.record("setGroupInfoDouble(String, String, String, double)", start);
+        }
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(UUID uuid, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(UUID, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(String world, UUID uuid, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(world, uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(String, UUID, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(UUID uuid, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(UUID, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(String world, UUID uuid, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(world, uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(String, UUID, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String group, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoBoolean(group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoBoolean(String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(String world, String group, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoBoolean(world, group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoBoolean(String, String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String group, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoBoolean(group, node, value);
+        } finally {
+            metrics.record("setGroupInfoBoolean(String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoBoolean(String world, String group, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoBoolean(world, group, node, value);
+        } finally {
+            metrics.record("setGroupInfoBoolean(String, String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    public String getPlayerInfoString(UUID uuid, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(UUID, String, String)", start);
+        }
+    }
+
+    @Override
+    public String getPlayerInfoString(String world, UUID uuid, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(world, uuid, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(String, UUID, String, String)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoString(UUID uuid, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(UUID, String, String)", start);
+        }
+    }
+
+    @Override
+    public void setPlayerInfoString(String world, UUID uuid, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(world, uuid, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(String, UUID, String, String)", start);
+        }
+    }
+
+    @Override
+    public String getGroupInfoString(String group, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoString(group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoString(String, String, String)", start);
+        }
+    }
+
+    @Override
+    public String getGroupInfoString(String world, String group, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroupInfoString(world, group, node, defaultValue);
+        } finally {
+            metrics.record("getGroupInfoString(String, String, String, String)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoString(String group, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoString(group, node, value);
+        } finally {
+            metrics.record("setGroupInfoString(String, String, String)", start);
+        }
+    }
+
+    @Override
+    public void setGroupInfoString(String world, String group, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setGroupInfoString(world, group, node, value);
+        } finally {
+            metrics.record("setGroupInfoString(String, String, String, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerInGroup(UUID uuid, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(uuid, group);
+        } finally {
+            metrics.record("playerInGroup(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public String[] getPlayerGroups(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(uuid);
+        } finally {
+            metrics.record("getPlayerGroups(UUID)", start);
+        }
+    }
+
+    @Override
+    public String getPrimaryGroup(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(uuid);
+        } finally {
+            metrics.record("getPrimaryGroup(UUID)", start);
+        }
+    }
+
+    @Override
+    public String[] getGroups() {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroups();
+        } finally {
+            metrics.record("getGroups()", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(player);
+        } finally {
+            metrics.record("getPlayerPrefix(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(player);
+        } finally {
+            metrics.record("getPlayerPrefix(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(playerName);
+        } finally {
+            metrics.record("getPlayerPrefix(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(String world, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(world, player);
+        } finally {
+            metrics.record("getPlayerPrefix(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(String world, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(world, player);
+        } finally {
+            metrics.record("getPlayerPrefix(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerPrefix(String world, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerPrefix(world, playerName);
+        } finally {
+            metrics.record("getPlayerPrefix(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull Player player, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(player, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull OfflinePlayer player, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(player, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(@NotNull String playerName, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(playerName, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull Player player, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(world, player, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull OfflinePlayer player, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(world, player, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerPrefix(String world, @NotNull String playerName, String prefix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerPrefix(world, playerName, prefix);
+        } finally {
+            metrics.record("setPlayerPrefix(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(player);
+        } finally {
+            metrics.record("getPlayerSuffix(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(player);
+        } finally {
+            metrics.record("getPlayerSuffix(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(playerName);
+        } finally {
+            metrics.record("getPlayerSuffix(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(String world, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(world, player);
+        } finally {
+            metrics.record("getPlayerSuffix(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(String world, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(world, player);
+        } finally {
+            metrics.record("getPlayerSuffix(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerSuffix(String world, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerSuffix(world, playerName);
+        } finally {
+            metrics.record("getPlayerSuffix(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull Player player, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(player, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull OfflinePlayer player, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(player, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(@NotNull String playerName, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(playerName, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull Player player, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(world, player, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull OfflinePlayer player, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(world, player, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerSuffix(String world, @NotNull String playerName, String suffix) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerSuffix(world, playerName, suffix);
+        } finally {
+            metrics.record("setPlayerSuffix(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(@NotNull Player player, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(Player, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(@NotNull OfflinePlayer player, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(OfflinePlayer, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(@NotNull String playerName, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(String, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(String world, @NotNull Player player, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(String, Player, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(String world, @NotNull OfflinePlayer player, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(String, OfflinePlayer, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int getPlayerInfoInteger(String world, @NotNull String playerName, String node, int defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoInteger(world, playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoInteger(String, String, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull Player player, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(Player, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull OfflinePlayer player, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(OfflinePlayer, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(@NotNull String playerName, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(String, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull Player player, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(String, Player, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull OfflinePlayer player, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(String, OfflinePlayer, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoInteger(String world, @NotNull String playerName, String node, int value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoInteger(world, playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoInteger(String, String, String, int)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(@NotNull Player player, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(@NotNull OfflinePlayer player, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(@NotNull String playerName, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(String world, @NotNull Player player, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(String, Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(String world, @NotNull OfflinePlayer player, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(String, OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getPlayerInfoDouble(String world, @NotNull String playerName, String node, double defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoDouble(world, playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoDouble(String, String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull Player player, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull OfflinePlayer player, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(@NotNull String playerName, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull Player player, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(String, Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull OfflinePlayer player, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(String, OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoDouble(String world, @NotNull String playerName, String node, double value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoDouble(world, playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoDouble(String, String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(@NotNull Player player, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(Player, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(@NotNull OfflinePlayer player, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(OfflinePlayer, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(@NotNull String playerName, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(String world, @NotNull Player player, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(String, Player, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(String world, @NotNull OfflinePlayer player, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(String, OfflinePlayer, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean getPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoBoolean(world, playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoBoolean(String, String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull Player player, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(Player, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull OfflinePlayer player, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(OfflinePlayer, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(@NotNull String playerName, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull Player player, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(String, Player, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull OfflinePlayer player, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(String, OfflinePlayer, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoBoolean(String world, @NotNull String playerName, String node, boolean value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoBoolean(world, playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoBoolean(String, String, String, boolean)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(@NotNull Player player, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(Player, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(@NotNull OfflinePlayer player, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(OfflinePlayer, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(@NotNull String playerName, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(String world, @NotNull Player player, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(String, Player, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(String world, @NotNull OfflinePlayer player, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(world, player, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(String, OfflinePlayer, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPlayerInfoString(String world, @NotNull String playerName, String node, String defaultValue) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerInfoString(world, playerName, node, defaultValue);
+        } finally {
+            metrics.record("getPlayerInfoString(String, String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull Player player, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(Player, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull OfflinePlayer player, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(OfflinePlayer, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(@NotNull String playerName, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull Player player, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(String, Player, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull OfflinePlayer player, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(world, player, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(String, OfflinePlayer, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setPlayerInfoString(String world, @NotNull String playerName, String node, String value) {
+        long start = System.nanoTime();
+
+        try {
+            super.setPlayerInfoString(world, playerName, node, value);
+        } finally {
+            metrics.record("setPlayerInfoString(String, String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(player, group);
+        } finally {
+            metrics.record("playerInGroup(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(player, group);
+        } finally {
+            metrics.record("playerInGroup(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(playerName, group);
+        } finally {
+            metrics.record("playerInGroup(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(world, player, group);
+        } finally {
+            metrics.record("playerInGroup(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(world, player, group);
+        } finally {
+            metrics.record("playerInGroup(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(world, playerName, group);
+        } finally {
+            metrics.record("playerInGroup(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(player);
+        } finally {
+            metrics.record("getPlayerGroups(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(player);
+        } finally {
+            metrics.record("getPlayerGroups(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(playerName);
+        } finally {
+            metrics.record("getPlayerGroups(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(world, player);
+        } finally {
+            metrics.record("getPlayerGroups(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(world, player);
+        } finally {
+            metrics.record("getPlayerGroups(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(world, playerName);
+        } finally {
+            metrics.record("getPlayerGroups(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(player);
+        } finally {
+            metrics.record("getPrimaryGroup(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(player);
+        } finally {
+            metrics.record("getPrimaryGroup(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(playerName);
+        } finally {
+            metrics.record("getPrimaryGroup(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(world, player);
+        } finally {
+            metrics.record("getPrimaryGroup(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(world, player);
+        } finally {
+            metrics.record("getPrimaryGroup(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(world, playerName);
+        } finally {
+            metrics.record("getPrimaryGroup(String, String)", start);
+        }
+    }
+}
@@ -18,21 +18,33 @@
 package net.milkbowl.vault.cmds;
 
 import net.milkbowl.vault.Vault;
+import net.milkbowl.vault.chat.CachedChat;
 import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.chat.MeteredChat;
+import net.milkbowl.vault.economy.CachedEconomy;
 import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyConverter;
+import net.milkbowl.vault.economy.MeteredEconomy;
+import net.milkbowl.vault.permission.CachedPermission;
+import net.milkbowl.vault.permission.MeteredPermission;
 import net.milkbowl.vault.permission.Permission;
+import net.milkbowl.vault.util.CallMetrics;
 import net.milkbowl.vault.util.ConstantUtil;
 import net.milkbowl.vault.util.MessageUtil;
+import net.milkbowl.vault.util.ProviderMetrics;
+import net.milkbowl.vault.util.ServiceDecorator;
+import net.milkbowl.vault.util.Settings;
+import net.milkbowl.vault.util.VaultServices;
 import net.milkbowl.vault.util.command.Command;
 import net.milkbowl.vault.util.command.CommandArgs;
 import org.bukkit.Bukkit;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
 import java.util.*;
 
 /**
@@ -42,6 +54,9 @@ import java.util.*;
  */
 public class VaultCmd {
 
+    // The number of methods listed per provider by /vault stats.
+    private static final int STATS_METHODS_SHOWN = 8;
+
     @SuppressWarnings("MethodMayBeStatic")
     @Command(name = "vault", permission = "vault.main",
             description = "Main command for Vault.", usage = "/vault")
@@ -74,9 +89,9 @@ public class VaultCmd {
                 @NotNull String registeredChats = getRegisteredServicesString(Chat.class);
 
                 // Uses generic methods to get the primary services.
-                @Nullable Economy economy = getPrimaryService(Economy.class);
-                @Nullable Permission permission = getPrimaryService(Permission.class);
-                @Nullable Chat chat = getPrimaryService(Chat.class);
+                @Nullable Economy economy = VaultServices.getEconomy();
+                @Nullable Permission permission = VaultServices.getPermission();
+                @Nullable Chat chat = VaultServices.getChat();
 
                 @NotNull PluginDescriptionFile description = Vault.getInstance().getDescription();
                 @NotNull String version = description.getVersion();
@@ -88,6 +103,23 @@ public class VaultCmd {
                 MessageUtil.messagePlayer(sender, String.format("&7Economy: &f%s &7[%s]", economy == null ? "None" : economy.getName(), registeredEcons));
                 MessageUtil.messagePlayer(sender, String.format("&7Permission: &f%s &7[%s]", permission == null ? "None" : permission.getName(), registeredPerms));
                 MessageUtil.messagePlayer(sender, String.format("&7Chat: &f%s &7[%s]", chat == null ? "None" : chat.getName(), registeredChats));
+
+                // Displays the cache statistics of any enabled caches.
+                if (economy instanceof CachedEconomy) {
+                    @NotNull CachedEconomy cache = (CachedEconomy) economy;
+                    messageCacheStats(sender, "Economy", cache.getHits(), cache.getMisses(), cache.getEvictions());
+                }
+
+                if (permission instanceof CachedPermission) {
+                    @NotNull CachedPermission cache = (CachedPermission) permission;
+                    messageCacheStats(sender, "Permission", cache.getHits(), cache.getMisses(), cache.getEvictions());
+                }
+
+                if (chat instanceof CachedChat) {
+                    @NotNull CachedChat cache = (CachedChat) chat;
+                    messageCacheStats(sender, "Chat", cache.getHits(), cache.getMisses(), cache.getEvictions());
+                }
+
                 MessageUtil.messagePlayer(sender, "");
                 break;
 
@@ -103,52 +135,94 @@ public class VaultCmd {
                 }
 
                 @NotNull Collection<RegisteredServiceProvider<Economy>> econs = Bukkit.getServer().getServicesManager().getRegistrations(Economy.class);
-
-                // Checks if there are at least two economies loaded.
-                if (econs.size() < 2) {
-                    MessageUtil.messagePlayer(sender, "&cYou must have at least two economies loaded to convert.");
-                    return;
-                }
-
                 @NotNull Map<String, Economy> economyMap = new HashMap<>();
 
+                // Vault's decorator shares the name of the economy it wraps, and takes its place,
+                // so the conversion goes through the decorator's cache.
                 econs.forEach(econ -> {
                     @NotNull Economy provider = econ.getProvider();
-                    economyMap.put(provider.getName().replace(" ", "").toLowerCase(Locale.ROOT), provider);
+                    @NotNull String name = provider.getName().replace(" ", "").toLowerCase(Locale.ROOT);
+
+                    if (provider instanceof ServiceDecorator) {
+                        economyMap.put(name, provider);
+                    } else {
+                        economyMap.putIfAbsent(name, provider);
+                    }
                 });
 
-                Economy econ1 = economyMap.get(args.getArgs(0).toLowerCase(Locale.ROOT));
-                Economy econ2 = economyMap.get(args.getArgs(1).toLowerCase(Locale.ROOT));
+                // Checks if there are at least two economies loaded.
+                if (economyMap.size() < 2) {
+                    MessageUtil.messagePlayer(sender, "&cYou must have at least two economies loaded to convert.");
+                    return;
+                }
+
+                @NotNull String econ1Name = args.getArgs(1).toLowerCase(Locale.ROOT);
+                @NotNull String econ2Name = args.getArgs(2).toLowerCase(Locale.ROOT);
+                Economy econ1 = economyMap.get(econ1Name);
+                Economy econ2 = economyMap.get(econ2Name);
 
                 // Checks if the specified economies are valid.
                 if (econ1 == null || econ2 == null) {
-                    String missingEcon = econ1 == null ? args.getArgs(0) : args.getArgs(1);
+                    String missingEcon = econ1 == null ? args.getArgs(1) : args.getArgs(2);
                     MessageUtil.messagePlayer(sender, "&cCould not find " + missingEcon + " loaded on the server; check your spelling.");
                     MessageUtil.messagePlayer(sender, "&cValid economies are: &e" + String.join(", ", economyMap.keySet()));
                     return;
                 }
 
-                MessageUtil.messagePlayer(sender, "&eThis may take some time to convert; expect server lag.");
+                if (econ1 == econ2) {
+                    MessageUtil.messagePlayer(sender, "&cYou must specify two different economies.");
+                    return;
+                }
 
-                // Converts all player balances from the first economy to the second economy.
-                for (@NotNull OfflinePlayer op : Bukkit.getServer().getOfflinePlayers()) {
-                    @NotNull UUID uuid = op.getUniqueId();
+                // Converts all player balances from the first economy to the second economy in the background.
+                @NotNull File checkpointFile = new File(Vault.getInstance().getDataFolder(), "convert.yml");
+                @NotNull EconomyConverter converter = new EconomyConverter(sender, econ1Name, econ1, econ2Name, econ2,
+                        checkpointFile, Settings.convertParallelism, Settings.convertChunkSize, Settings.convertProgressInterval);
 
-                    if (!econ1.hasAccount(uuid)) {
-                        continue;
-                    }
+                if (!converter.start()) {
+                    MessageUtil.messagePlayer(sender, "&cA conversion is already running.");
+                    return;
+                }
 
-                    econ2.createPlayerAccount(uuid);
-                    double balanceDiff = econ1.getBalance(uuid) - econ2.getBalance(uuid);
+                MessageUtil.messagePlayer(sender, "&eConversion started in the background; progress will be reported periodically.");
+                break;
 
-                    if (balanceDiff > 0) {
-                        econ2.depositPlayer(uuid, balanceDiff);
-                    } else if (balanceDiff < 0) {
-                        econ2.withdrawPlayer(uuid, -balanceDiff);
-                    }
+            case "stats":
+                if (!sender.hasPermission("vault.stats")) {
+                    MessageUtil.messagePlayer(sender, ConstantUtil.NO_PERMISSION);
+                    return;
+                }
+
+                if (args.length() > 2 || (args.length() == 2 && !"reset".equalsIgnoreCase(args.getArgs(1)))) {
+                    MessageUtil.messagePlayer(sender, "&cUsage: /vault stats [reset]");
+                    return;
+                }
+
+                if (!Settings.metricsEnabled) {
+                    MessageUtil.messagePlayer(sender, "&cProvider metrics are disabled; enable them in the config.");
+                    return;
                 }
 
-                MessageUtil.messagePlayer(sender, "&aConversion complete. Please verify the data before using it.");
+                // Finds the metrics of each primary provider in its chain of decorators.
+                @NotNull Map<String, ProviderMetrics> metricsMap = new LinkedHashMap<>();
+                @Nullable MeteredEconomy meteredEconomy = ServiceDecorator.find(VaultServices.getEconomy(), MeteredEconomy.class);
+                @Nullable MeteredPermission meteredPermission = ServiceDecorator.find(VaultServices.getPermission(), MeteredPermission.class);
+                @Nullable MeteredChat meteredChat = ServiceDecorator.find(VaultServices.getChat(), MeteredChat.class);
+
+                metricsMap.put("Economy", meteredEconomy == null ? null : meteredEconomy.getMetrics());
+                metricsMap.put("Permission", meteredPermission == null ? null : meteredPermission.getMetrics());
+                metricsMap.put("Chat", meteredChat == null ? null : meteredChat.getMetrics());
+
+                if (args.length() == 2) {
+                    metricsMap.values().stream().filter(Objects::nonNull).forEach(ProviderMetrics::reset);
+                    MessageUtil.messagePlayer(sender, "&eProvider metrics have been reset.");
+                    return;
+                }
+
+                MessageUtil.messagePlayer(sender, "");
+                MessageUtil.messagePlayer(sender, "&eVault Provider Stats");
+                metricsMap.forEach((service, metrics) -> messageProviderStats(sender, service, metrics));
+                MessageUtil.messagePlayer(sender, "");
                 break;
 
             default:
@@ -172,7 +246,8 @@ public class VaultCmd {
         // A list of available commands with their usages.
         @NotNull List<String> commands = Arrays.asList(
                 "&f/vault info &7- Displays info about Vault.",
-                "&f/vault convert &7- Converts from one economy to another."
+                "&f/vault convert &7- Converts from one economy to another.",
+                "&f/vault stats &7- Displays provider call statistics."
         );
 
         int itemsPerPage = 4;
@@ -209,6 +284,60 @@ public class VaultCmd {
         MessageUtil.messagePlayer(sender, "");
     }
 
+    /**
+     * Sends the statistics of a cache to the given sender.
+     *
+     * @param sender    The command sender
+     * @param name      The name of the cached service
+     * @param hits      The number of cache hits
+     * @param misses    The number of cache misses
+     * @param evictions The number of size-based evictions
+     */
+    private static void messageCacheStats(@NotNull CommandSender sender, @NotNull String name,
+                                          long hits, long misses, long evictions) {
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0.0 : hits * 100.0 / lookups;
+
+        MessageUtil.messagePlayer(sender, String.format("&7%s Cache: &f%d &7hits, &f%d &7misses, &f%d &7evictions (&f%.1f%%&7)",
+                name, hits, misses, evictions, hitRate));
+    }
+
+    /**
+     * Sends the call statistics of a provider to the given sender.
+     * Methods are listed from the highest to the lowest total time spent in them.
+     *
+     * @param sender  The command sender
+     * @param service The name of the service
+     * @param metrics The provider's metrics, or null if the service has no metered provider
+     */
+    private static void messageProviderStats(@NotNull CommandSender sender, @NotNull String service,
+                                             @Nullable ProviderMetrics metrics) {
+        if (metrics == null) {
+            MessageUtil.messagePlayer(sender, "&7" + service + ": &fNone");
+            return;
+        }
+
+        @NotNull List<Map.Entry<String, CallMetrics>> methods = new ArrayList<>(metrics.getMethods().entrySet());
+        methods.sort(Comparator.comparingLong((Map.Entry<String, CallMetrics> entry) -> entry.getValue().getTotalNanos()).reversed());
+
+        long calls = methods.stream().mapToLong(entry -> entry.getValue().getCount()).sum();
+        MessageUtil.messagePlayer(sender, String.format("&7%s: &f%s &7(%d calls)", service, metrics.getProviderName(), calls));
+
+        for (int i = 0; i < Math.min(STATS_METHODS_SHOWN, methods.size()); i++) {
+            @NotNull String method = methods.get(i).getKey();
+            @NotNull CallMetrics call = methods.get(i).getValue();
+            long count = call.getCount();
+
+            if (count == 0) {
+                break;
+            }
+
+            MessageUtil.messagePlayer(sender, String.format("&7 - &f%s&7: &f%d &7calls, p50 &f%.3f&7ms, p99 &f%.3f&7ms, max &f%.3f&7ms, &f%.0f%% &7main thread",
+                    method, count, call.getPercentileNanos(50) / 1.0E6, call.getPercentileNanos(99) / 1.0E6,
+                    call.getMaxNanos() / 1.0E6, call.getMainThreadCount() * 100.0 / count));
+        }
+    }
+
     /**
      * Gets a string of all registered services for a given service class.
      *
@@ -233,16 +362,4 @@ public class VaultCmd {
         }
         return services.toString();
     }
-
-    /**
-     * Gets the primary service for a given service class.
-     *
-     * @param serviceClass The service class to get the primary service for
-     * @param <T>          The service class type
-     * @return The primary service for the given service class
-     */
-    private static <T> @Nullable T getPrimaryService(@NotNull Class<T> serviceClass) {
-        @Nullable RegisteredServiceProvider<T> rsp = Bukkit.getServer().getServicesManager().getRegistration(serviceClass);
-        return rsp == null ? null : rsp.getProvider();
-    }
 }
@@ -0,0 +1,540 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import net.milkbowl.vault.util.ExpiringCache;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-through cache in front of an Economy provider.
+ * Balances and account lookups are cached per player and invalidated
+ * whenever a withdrawal, deposit or account creation passes through it.
+ * As the account a provider resolves a name to isn't known, a successful
+ * name-based change clears the whole cache. Lookups through the deprecated
+ * overloads are forwarded uncached, so provider overrides of them still apply.
+ *
+ * @author Foulest
+ */
+public class CachedEconomy extends EconomyDecorator {
+
+    private final @NotNull ExpiringCache<UUID, Double> balances;
+    private final @NotNull ExpiringCache<UUID, Boolean> accounts;
+
+    /**
+     * Creates a new cached Economy.
+     *
+     * @param delegate  The Economy provider to cache.
+     * @param maxSize   The maximum number of players to cache.
+     * @param ttlMillis The time in milliseconds before a cached entry expires.
+     */
+    public CachedEconomy(@NotNull Economy delegate, int maxSize, long ttlMillis) {
+        super(delegate);
+        balances = new ExpiringCache<>(maxSize, ttlMillis);
+        accounts = new ExpiringCache<>(maxSize, ttlMillis);
+    }
+
+    @Override
+    public boolean hasAccount(@NotNull UUID uuid) {
+        return accounts.get(uuid, getDelegate()::hasAccount);
+    }
+
+    @Override
+    public @NotNull Map<UUID, Boolean> hasAccounts(@NotNull Collection<UUID> uuids) {
+        return accounts.getAll(uuids, this::loadAccounts);
+    }
+
+    @Override
+    public double getBalance(@NotNull UUID uuid) {
+        return balances.get(uuid, getDelegate()::getBalance);
+    }
+
+    @Override
+    public @NotNull Map<UUID, Double> getBalances(@NotNull Collection<UUID> uuids) {
+        return balances.getAll(uuids, this::loadBalances);
+    }
+
+    @Override
+    public long getBalanceMinor(@NotNull UUID uuid) {
+        return toMinorUnits(getBalance(uuid));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(@NotNull UUID uuid, double amount) {
+        try {
+            return getDelegate().withdrawPlayer(uuid, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(@NotNull UUID uuid, double amount) {
+        return getDelegate().withdrawPlayerAsync(uuid, amount).whenComplete((result, ex) -> invalidate(uuid));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(@NotNull UUID uuid, String world, double amount) {
+        try {
+            return getDelegate().withdrawPlayer(uuid, world, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(@NotNull UUID uuid, String world, double amount) {
+        return getDelegate().withdrawPlayerAsync(uuid, world, amount).whenComplete((result, ex) -> invalidate(uuid));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(@NotNull UUID uuid, double amount) {
+        try {
+            return getDelegate().depositPlayer(uuid, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(@NotNull UUID uuid, double amount) {
+        return getDelegate().depositPlayerAsync(uuid, amount).whenComplete((result, ex) -> invalidate(uuid));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(@NotNull UUID uuid, String world, double amount) {
+        try {
+            return getDelegate().depositPlayer(uuid, world, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(@NotNull UUID uuid, String world, double amount) {
+        return getDelegate().depositPlayerAsync(uuid, world, amount).whenComplete((result, ex) -> invalidate(uuid));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayerMinor(@NotNull UUID uuid, long minorUnits) {
+        try {
+            return getDelegate().withdrawPlayerMinor(uuid, minorUnits);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayerMinor(@NotNull UUID uuid, String world, long minorUnits) {
+        try {
+            return getDelegate().withdrawPlayerMinor(uuid, world, minorUnits);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayerMinor(@NotNull UUID uuid, long minorUnits) {
+        try {
+            return getDelegate().depositPlayerMinor(uuid, minorUnits);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayerMinor(@NotNull UUID uuid, String world, long minorUnits) {
+        try {
+            return getDelegate().depositPlayerMinor(uuid, world, minorUnits);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(@NotNull UUID uuid, double amount) {
+        try {
+            return getDelegate().withdrawPlayerForBalance(uuid, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(@NotNull UUID uuid, String world, double amount) {
+        try {
+            return getDelegate().withdrawPlayerForBalance(uuid, world, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public double depositPlayerForBalance(@NotNull UUID uuid, double amount) {
+        try {
+            return getDelegate().depositPlayerForBalance(uuid, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public double depositPlayerForBalance(@NotNull UUID uuid, String world, double amount) {
+        try {
+            return getDelegate().depositPlayerForBalance(uuid, world, amount);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public EconomyResponse transfer(@NotNull UUID from, @NotNull UUID to, double amount) {
+        try {
+            return getDelegate().transfer(from, to, amount);
+        } finally {
+            invalidate(from);
+            invalidate(to);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> transferAsync(@NotNull UUID from, @NotNull UUID to, double amount) {
+        return getDelegate().transferAsync(from, to, amount).whenComplete((result, ex) -> {
+            invalidate(from);
+            invalidate(to);
+        });
+    }
+
+    @Override
+    public @NotNull List<EconomyResponse> submit(@NotNull EconomyTransaction transaction) {
+        try {
+            return getDelegate().submit(transaction);
+        } finally {
+            transaction.getPlayers().forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<EconomyResponse>> submitAsync(@NotNull EconomyTransaction transaction) {
+        return getDelegate().submitAsync(transaction)
+                .whenComplete((result, ex) -> transaction.getPlayers().forEach(this::invalidate));
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid) {
+        try {
+            return getDelegate().createPlayerAccount(uuid);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(@NotNull UUID uuid) {
+        return getDelegate().createPlayerAccountAsync(uuid).whenComplete((result, ex) -> invalidate(uuid));
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid, String world) {
+        try {
+            return getDelegate().createPlayerAccount(uuid, world);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(@NotNull UUID uuid, String world) {
+        return getDelegate().createPlayerAccountAsync(uuid, world).whenComplete((result, ex) -> invalidate(uuid));
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull Player player, double amount) {
+        try {
+            return getDelegate().withdrawPlayer(player, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull OfflinePlayer player, double amount) {
+        try {
+            return getDelegate().withdrawPlayer(player, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull String playerName, double amount) {
+        EconomyResponse result = getDelegate().withdrawPlayer(playerName, amount);
+
+        if (result != null && result.transactionSuccess()) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull Player player, String world, double amount) {
+        try {
+            return getDelegate().withdrawPlayer(player, world, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull OfflinePlayer player, String world, double amount) {
+        try {
+            return getDelegate().withdrawPlayer(player, world, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull String playerName, String world, double amount) {
+        EconomyResponse result = getDelegate().withdrawPlayer(playerName, world, amount);
+
+        if (result != null && result.transactionSuccess()) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull Player player, double amount) {
+        try {
+            return getDelegate().depositPlayer(player, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull OfflinePlayer player, double amount) {
+        try {
+            return getDelegate().depositPlayer(player, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull String playerName, double amount) {
+        EconomyResponse result = getDelegate().depositPlayer(playerName, amount);
+
+        if (result != null && result.transactionSuccess()) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull Player player, String world, double amount) {
+        try {
+            return getDelegate().depositPlayer(player, world, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull OfflinePlayer player, String world, double amount) {
+        try {
+            return getDelegate().depositPlayer(player, world, amount);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull String playerName, String world, double amount) {
+        EconomyResponse result = getDelegate().depositPlayer(playerName, world, amount);
+
+        if (result != null && result.transactionSuccess()) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull Player player) {
+        try {
+            return getDelegate().createPlayerAccount(player);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull OfflinePlayer player) {
+        try {
+            return getDelegate().createPlayerAccount(player);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull String playerName) {
+        boolean result = getDelegate().createPlayerAccount(playerName);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull Player player, String world) {
+        try {
+            return getDelegate().createPlayerAccount(player, world);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull OfflinePlayer player, String world) {
+        try {
+            return getDelegate().createPlayerAccount(player, world);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull String playerName, String world) {
+        boolean result = getDelegate().createPlayerAccount(playerName, world);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    /**
+     * Removes the cached balance and account state of a player.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        balances.invalidate(uuid);
+        accounts.invalidate(uuid);
+    }
+
+    /**
+     * Removes all cached balances and account states.
+     */
+    public void invalidateAll() {
+        balances.invalidateAll();
+        accounts.invalidateAll();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return balances.getHits() + accounts.getHits();
+    }
+
+    /**
+     * Gets the number of lookups forwarded to the provider.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return balances.getMisses() + accounts.getMisses();
+    }
+
+    /**
+     * Gets the number of entries evicted because the cache was full.
+     *
+     * @return The number of size-based evictions.
+     */
+    public long getEvictions() {
+        return balances.getEvictions() + accounts.getEvictions();
+    }
+
+    /**
+     * Loads the account states of players in one call to the provider.
+     * Players the provider left out are loaded one by one.
+     *
+     * @param uuids The UUIDs of the players.
+     * @return Map of each UUID to whether the player has an account.
+     */
+    private @NotNull Map<UUID, Boolean> loadAccounts(@NotNull List<UUID> uuids) {
+        @NotNull Map<UUID, Boolean> loaded = new HashMap<>(getDelegate().hasAccounts(uuids));
+
+        for (@NotNull UUID uuid : uuids) {
+            if (loaded.get(uuid) == null) {
+                loaded.put(uuid, getDelegate().hasAccount(uuid));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads the balances of players in one call to the provider.
+     * Players the provider left out are loaded one by one.
+     *
+     * @param uuids The UUIDs of the players.
+     * @return Map of each UUID to the player's balance.
+     */
+    private @NotNull Map<UUID, Double> loadBalances(@NotNull List<UUID> uuids) {
+        @NotNull Map<UUID, Double> loaded = new HashMap<>(getDelegate().getBalances(uuids));
+
+        for (@NotNull UUID uuid : uuids) {
+            if (loaded.get(uuid) == null) {
+                loaded.put(uuid, getDelegate().getBalance(uuid));
+            }
+        }
+        return loaded;
+    }
+}
@@ -17,14 +17,21 @@
  */
 package net.milkbowl.vault.economy;
 
-import org.bukkit.Bukkit;
+import net.milkbowl.vault.util.MessageUtil;
+import net.milkbowl.vault.util.PlayerIndex;
+import net.milkbowl.vault.util.VaultExecutor;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 
 /**
  * Abstract class for Vault's Economy API.
@@ -62,6 +69,27 @@ public interface Economy {
      */
     int fractionalDigits();
 
+    /**
+     * Converts an amount to minor units of this economy's currency, scaled by {@link #fractionalDigits()}.
+     * Economies that don't round their amounts are treated as having two fractional digits.
+     *
+     * @param amount Amount to convert.
+     * @return Amount in minor units, rounded half up.
+     */
+    default long toMinorUnits(double amount) {
+        return MinorUnits.toMinor(amount, fractionalDigits());
+    }
+
+    /**
+     * Converts an amount in minor units of this economy's currency to a decimal amount.
+     *
+     * @param minorUnits Amount in minor units.
+     * @return Decimal amount.
+     */
+    default double fromMinorUnits(long minorUnits) {
+        return MinorUnits.toMajor(minorUnits, fractionalDigits());
+    }
+
     /**
      * Gets the format for the economy system.
      *
@@ -106,13 +134,24 @@ public interface Economy {
 
     @Deprecated
     default boolean hasAccount(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
+        return hasAccount(PlayerIndex.getUniqueId(playerName));
+    }
 
-        if (player != null) {
-            return hasAccount(player);
-        } else {
-            return hasAccount(Bukkit.getOfflinePlayer(playerName));
+    /**
+     * Checks if each of the given players has an account.
+     * The default implementation calls {@link #hasAccount(UUID)} for each player;
+     * providers backed by a database should override this to use a single query.
+     *
+     * @param uuids UUIDs of the players to check.
+     * @return Map of each player's UUID to whether they have an account, in the order given.
+     */
+    default @NotNull Map<UUID, Boolean> hasAccounts(@NotNull Collection<UUID> uuids) {
+        @NotNull Map<UUID, Boolean> accounts = new LinkedHashMap<>();
+
+        for (@NotNull UUID uuid : uuids) {
+            accounts.put(uuid, hasAccount(uuid));
         }
+        return accounts;
     }
 
     /**
@@ -138,13 +177,7 @@ public interface Economy {
 
     @Deprecated
     default boolean hasAccount(@NotNull String playerName, String world) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return hasAccount(player, world);
-        } else {
-            return hasAccount(Bukkit.getOfflinePlayer(playerName), world);
-        }
+        return hasAccount(PlayerIndex.getUniqueId(playerName), world);
     }
 
     /**
@@ -155,6 +188,18 @@ public interface Economy {
      */
     double getBalance(UUID uuid);
 
+    /**
+     * Gets the balance of the given player in minor units.
+     * The default implementation converts {@link #getBalance(UUID)};
+     * providers that store balances as integers should override it.
+     *
+     * @param uuid UUID of the player to check.
+     * @return Balance of the player in minor units.
+     */
+    default long getBalanceMinor(UUID uuid) {
+        return toMinorUnits(getBalance(uuid));
+    }
+
     @Deprecated
     default double getBalance(@NotNull Player player) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -169,13 +214,24 @@ public interface Economy {
 
     @Deprecated
     default double getBalance(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
+        return getBalance(PlayerIndex.getUniqueId(playerName));
+    }
+
+    /**
+     * Gets the balances of the given players.
+     * The default implementation calls {@link #getBalance(UUID)} for each player;
+     * providers backed by a database should override this to use a single query.
+     *
+     * @param uuids UUIDs of the players to check.
+     * @return Map of each player's UUID to their balance, in the order given.
+     */
+    default @NotNull Map<UUID, Double> getBalances(@NotNull Collection<UUID> uuids) {
+        @NotNull Map<UUID, Double> balances = new LinkedHashMap<>();
 
-        if (player != null) {
-            return getBalance(player);
-        } else {
-            return getBalance(Bukkit.getOfflinePlayer(playerName));
+        for (@NotNull UUID uuid : uuids) {
+            balances.put(uuid, getBalance(uuid));
         }
+        return balances;
     }
 
     /**
@@ -187,6 +243,18 @@ public interface Economy {
      */
     double getBalance(UUID uuid, String world);
 
+    /**
+     * Gets the balance of the given player in the given world in minor units.
+     * The default implementation converts {@link #getBalance(UUID, String)}.
+     *
+     * @param uuid  UUID of the player to check.
+     * @param world Name of the world to check.
+     * @return Balance of the player in the given world in minor units.
+     */
+    default long getBalanceMinor(UUID uuid, String world) {
+        return toMinorUnits(getBalance(uuid, world));
+    }
+
     @Deprecated
     default double getBalance(@NotNull Player player, String world) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -201,13 +269,7 @@ public interface Economy {
 
     @Deprecated
     default double getBalance(@NotNull String playerName, String world) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getBalance(player, world);
-        } else {
-            return getBalance(Bukkit.getOfflinePlayer(playerName), world);
-        }
+        return getBalance(PlayerIndex.getUniqueId(playerName), world);
     }
 
     /**
@@ -219,6 +281,18 @@ public interface Economy {
      */
     boolean has(UUID uuid, double amount);
 
+    /**
+     * Checks if the given player has at least the given amount of minor units.
+     * The default implementation compares against {@link #getBalanceMinor(UUID)}.
+     *
+     * @param uuid       UUID of the player to check.
+     * @param minorUnits Amount to check for, in minor units.
+     * @return Whether the player has the amount.
+     */
+    default boolean hasMinor(UUID uuid, long minorUnits) {
+        return getBalanceMinor(uuid) >= minorUnits;
+    }
+
     @Deprecated
     default boolean has(@NotNull Player player, double amount) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -233,13 +307,7 @@ public interface Economy {
 
     @Deprecated
     default boolean has(@NotNull String playerName, double amount) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return has(player, amount);
-        } else {
-            return has(Bukkit.getOfflinePlayer(playerName), amount);
-        }
+        return has(PlayerIndex.getUniqueId(playerName), amount);
     }
 
     /**
@@ -252,6 +320,19 @@ public interface Economy {
      */
     boolean has(UUID uuid, String world, double amount);
 
+    /**
+     * Checks if the given player has at least the given amount of minor units in the given world.
+     * The default implementation compares against {@link #getBalanceMinor(UUID, String)}.
+     *
+     * @param uuid       UUID of the player to check.
+     * @param world      Name of the world to check.
+     * @param minorUnits Amount to check for, in minor units.
+     * @return Whether the player has the amount in the given world.
+     */
+    default boolean hasMinor(UUID uuid, String world, long minorUnits) {
+        return getBalanceMinor(uuid, world) >= minorUnits;
+    }
+
     @Deprecated
     default boolean has(@NotNull Player player, String world, double amount) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -266,13 +347,7 @@ public interface Economy {
 
     @Deprecated
     default boolean has(@NotNull String playerName, String world, double amount) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return has(player, world, amount);
-        } else {
-            return has(Bukkit.getOfflinePlayer(playerName), world, amount);
-        }
+        return has(PlayerIndex.getUniqueId(playerName), world, amount);
     }
 
     /**
@@ -284,6 +359,45 @@ public interface Economy {
      */
     EconomyResponse withdrawPlayer(UUID uuid, double amount);
 
+    /**
+     * Withdraws the given amount of minor units from the given player.
+     * The default implementation converts the amount and calls {@link #withdrawPlayer(UUID, double)}.
+     *
+     * @param uuid       UUID of the player to withdraw from.
+     * @param minorUnits Amount to withdraw, in minor units.
+     * @return Response object for the transaction.
+     */
+    default EconomyResponse withdrawPlayerMinor(UUID uuid, long minorUnits) {
+        return withdrawPlayer(uuid, fromMinorUnits(minorUnits));
+    }
+
+    /**
+     * Withdraws the given amount from the given player, returning only the new balance.
+     * Unlike {@link #withdrawPlayer(UUID, double)}, providers may implement this without
+     * allocating a response; the default implementation unwraps that response.
+     *
+     * @param uuid   UUID of the player to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return The player's new balance, or {@link Double#NaN} if the transaction failed.
+     */
+    default double withdrawPlayerForBalance(UUID uuid, double amount) {
+        EconomyResponse response = withdrawPlayer(uuid, amount);
+        return response != null && response.transactionSuccess() ? response.balance : Double.NaN;
+    }
+
+    /**
+     * Withdraws the given amount from the given player asynchronously.
+     * The default implementation runs {@link #withdrawPlayer(UUID, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param uuid UUID of the player to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(UUID uuid, double amount) {
+        return VaultExecutor.supply(() -> withdrawPlayer(uuid, amount));
+    }
+
     @Deprecated
     default EconomyResponse withdrawPlayer(@NotNull Player player, double amount) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -298,13 +412,7 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse withdrawPlayer(@NotNull String playerName, double amount) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return withdrawPlayer(player, amount);
-        } else {
-            return withdrawPlayer(Bukkit.getOfflinePlayer(playerName), amount);
-        }
+        return withdrawPlayer(PlayerIndex.getUniqueId(playerName), amount);
     }
 
     /**
@@ -317,6 +425,47 @@ public interface Economy {
      */
     EconomyResponse withdrawPlayer(UUID uuid, String world, double amount);
 
+    /**
+     * Withdraws the given amount of minor units from the given player in the given world.
+     * The default implementation converts the amount and calls {@link #withdrawPlayer(UUID, String, double)}.
+     *
+     * @param uuid       UUID of the player to withdraw from.
+     * @param world      Name of the world to withdraw from.
+     * @param minorUnits Amount to withdraw, in minor units.
+     * @return Response object for the transaction.
+     */
+    default EconomyResponse withdrawPlayerMinor(UUID uuid, String world, long minorUnits) {
+        return withdrawPlayer(uuid, world, fromMinorUnits(minorUnits));
+    }
+
+    /**
+     * Withdraws the given amount from the given player on the given world, returning only the new balance.
+     * The default implementation unwraps the response of {@link #withdrawPlayer(UUID, String, double)}.
+     *
+     * @param uuid   UUID of the player to withdraw from.
+     * @param world  Name of the world to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return The player's new balance, or {@link Double#NaN} if the transaction failed.
+     */
+    default double withdrawPlayerForBalance(UUID uuid, String world, double amount) {
+        EconomyResponse response = withdrawPlayer(uuid, world, amount);
+        return response != null && response.transactionSuccess() ? response.balance : Double.NaN;
+    }
+
+    /**
+     * Withdraws the given amount from the given player on the given world asynchronously.
+     * The default implementation runs {@link #withdrawPlayer(UUID, String, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param uuid UUID of the player to withdraw from.
+     * @param world Name of the world to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(UUID uuid, String world, double amount) {
+        return VaultExecutor.supply(() -> withdrawPlayer(uuid, world, amount));
+    }
+
     @Deprecated
     default EconomyResponse withdrawPlayer(@NotNull Player player, String world, double amount) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -331,13 +480,7 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse withdrawPlayer(@NotNull String playerName, String world, double amount) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return withdrawPlayer(player, world, amount);
-        } else {
-            return withdrawPlayer(Bukkit.getOfflinePlayer(playerName), world, amount);
-        }
+        return withdrawPlayer(PlayerIndex.getUniqueId(playerName), world, amount);
     }
 
     /**
@@ -349,6 +492,45 @@ public interface Economy {
      */
     EconomyResponse depositPlayer(UUID uuid, double amount);
 
+    /**
+     * Deposits the given amount of minor units to the given player.
+     * The default implementation converts the amount and calls {@link #depositPlayer(UUID, double)}.
+     *
+     * @param uuid       UUID of the player to deposit to.
+     * @param minorUnits Amount to deposit, in minor units.
+     * @return Response object for the transaction.
+     */
+    default EconomyResponse depositPlayerMinor(UUID uuid, long minorUnits) {
+        return depositPlayer(uuid, fromMinorUnits(minorUnits));
+    }
+
+    /**
+     * Deposits the given amount to the given player, returning only the new balance.
+     * Unlike {@link #depositPlayer(UUID, double)}, providers may implement this without
+     * allocating a response; the default implementation unwraps that response.
+     *
+     * @param uuid   UUID of the player to deposit to.
+     * @param amount Amount to deposit.
+     * @return The player's new balance, or {@link Double#NaN} if the transaction failed.
+     */
+    default double depositPlayerForBalance(UUID uuid, double amount) {
+        EconomyResponse response = depositPlayer(uuid, amount);
+        return response != null && response.transactionSuccess() ? response.balance : Double.NaN;
+    }
+
+    /**
+     * Deposits the given amount to the given player asynchronously.
+     * The default implementation runs {@link #depositPlayer(UUID, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param uuid UUID of the player to deposit to.
+     * @param amount Amount to deposit.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(UUID uuid, double amount) {
+        return VaultExecutor.supply(() -> depositPlayer(uuid, amount));
+    }
+
     @Deprecated
     default EconomyResponse depositPlayer(@NotNull Player player, double amount) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -363,13 +545,7 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse depositPlayer(@NotNull String playerName, double amount) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return depositPlayer(player, amount);
-        } else {
-            return depositPlayer(Bukkit.getOfflinePlayer(playerName), amount);
-        }
+        return depositPlayer(PlayerIndex.getUniqueId(playerName), amount);
     }
 
     /**
@@ -382,6 +558,47 @@ public interface Economy {
      */
     EconomyResponse depositPlayer(UUID uuid, String world, double amount);
 
+    /**
+     * Deposits the given amount of minor units to the given player in the given world.
+     * The default implementation converts the amount and calls {@link #depositPlayer(UUID, String, double)}.
+     *
+     * @param uuid       UUID of the player to deposit to.
+     * @param world      Name of the world to deposit to.
+     * @param minorUnits Amount to deposit, in minor units.
+     * @return Response object for the transaction.
+     */
+    default EconomyResponse depositPlayerMinor(UUID uuid, String world, long minorUnits) {
+        return depositPlayer(uuid, world, fromMinorUnits(minorUnits));
+    }
+
+    /**
+     * Deposits the given amount to the given player on the given world, returning only the new balance.
+     * The default implementation unwraps the response of {@link #depositPlayer(UUID, String, double)}.
+     *
+     * @param uuid   UUID of the player to deposit to.
+     * @param world  Name of the world to deposit to.
+     * @param amount Amount to deposit.
+     * @return The player's new balance, or {@link Double#NaN} if the transaction failed.
+     */
+    default double depositPlayerForBalance(UUID uuid, String world, double amount) {
+        EconomyResponse response = depositPlayer(uuid, world, amount);
+        return response != null && response.transactionSuccess() ? response.balance : Double.NaN;
+    }
+
+    /**
+     * Deposits the given amount to the given player on the given world asynchronously.
+     * The default implementation runs {@link #depositPlayer(UUID, String, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param uuid UUID of the player to deposit to.
+     * @param world Name of the world to deposit to.
+     * @param amount Amount to deposit.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(UUID uuid, String world, double amount) {
+        return VaultExecutor.supply(() -> depositPlayer(uuid, world, amount));
+    }
+
     @Deprecated
     default EconomyResponse depositPlayer(@NotNull Player player, String world, double amount) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -396,13 +613,100 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse depositPlayer(@NotNull String playerName, String world, double amount) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
+        return depositPlayer(PlayerIndex.getUniqueId(playerName), world, amount);
+    }
 
-        if (player != null) {
-            return depositPlayer(player, world, amount);
-        } else {
-            return depositPlayer(Bukkit.getOfflinePlayer(playerName), world, amount);
+    /**
+     * Transfers the given amount from one player to another.
+     * <p>
+     * The default implementation withdraws from the sender and deposits the amount withdrawn
+     * to the recipient, depositing it back to the sender if the second step fails. Providers backed
+     * by a transactional store should override this to move the funds in a single transaction.
+     * Negative, infinite and NaN amounts, and transfers from a player to themselves, are rejected
+     * without touching either account.
+     *
+     * @param from   UUID of the player to withdraw from.
+     * @param to     UUID of the player to deposit to.
+     * @param amount Amount to transfer.
+     * @return Response object for the transaction, holding the sender's balance.
+     */
+    default EconomyResponse transfer(UUID from, UUID to, double amount) {
+        if (amount < 0 || !Double.isFinite(amount)) {
+            return EconomyResponse.INVALID_AMOUNT;
+        }
+
+        if (from.equals(to)) {
+            return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE,
+                    "Cannot transfer funds to the same account");
+        }
+
+        EconomyResponse withdrawal = withdrawPlayer(from, amount);
+
+        if (withdrawal == null || !withdrawal.transactionSuccess()) {
+            return withdrawal;
+        }
+
+        // Moves the amount actually withdrawn, which may differ if the provider applied fees or rounding.
+        double withdrawn = withdrawal.amount;
+        EconomyResponse deposit = depositPlayer(to, withdrawn);
+
+        if (deposit != null && deposit.transactionSuccess()) {
+            return new EconomyResponse(withdrawn, withdrawal.balance, EconomyResponse.ResponseType.SUCCESS, null);
+        }
+
+        // Compensates for the withdrawal, since the recipient never received the funds.
+        @Nullable String reason = deposit == null ? "Deposit failed" : deposit.errorMessage;
+        EconomyResponse refund = depositPlayer(from, withdrawn);
+
+        if (refund != null && refund.transactionSuccess()) {
+            return new EconomyResponse(0, refund.balance, EconomyResponse.ResponseType.FAILURE, reason);
         }
+
+        @Nullable String refundReason = refund == null ? null : refund.errorMessage;
+        MessageUtil.log(Level.SEVERE, "Transfer of " + withdrawn + " from " + from + " to " + to
+                + " failed and could not be refunded; the funds were lost: " + reason + "; " + refundReason);
+        return new EconomyResponse(0, withdrawal.balance, EconomyResponse.ResponseType.FAILURE,
+                reason + "; refund to sender failed: " + refundReason);
+    }
+
+    /**
+     * Transfers the given amount from one player to another asynchronously.
+     * The default implementation runs {@link #transfer(UUID, UUID, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param from   UUID of the player to withdraw from.
+     * @param to     UUID of the player to deposit to.
+     * @param amount Amount to transfer.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> transferAsync(UUID from, UUID to, double amount) {
+        return VaultExecutor.supply(() -> transfer(from, to, amount));
+    }
+
+    /**
+     * Submits a batch of withdrawals, deposits and bank operations as a single unit.
+     * <p>
+     * The default implementation runs the operations in order; if one fails, the operations
+     * that already succeeded are undone in reverse order and the rest are skipped. Providers
+     * backed by a transactional store should override this to run the batch in one transaction.
+     *
+     * @param transaction The operations to submit.
+     * @return One response per operation, in the order they were added.
+     */
+    default @NotNull List<EconomyResponse> submit(@NotNull EconomyTransaction transaction) {
+        return transaction.runSequentially(this);
+    }
+
+    /**
+     * Submits a batch of operations asynchronously.
+     * The default implementation runs {@link #submit(EconomyTransaction)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param transaction The operations to submit.
+     * @return Future completed with one response per operation.
+     */
+    default @NotNull CompletableFuture<List<EconomyResponse>> submitAsync(@NotNull EconomyTransaction transaction) {
+        return VaultExecutor.supply(() -> submit(transaction));
     }
 
     /**
@@ -414,6 +718,19 @@ public interface Economy {
      */
     EconomyResponse createBank(String name, UUID uuid);
 
+    /**
+     * Creates a bank with the given name and owner asynchronously.
+     * The default implementation runs {@link #createBank(String, UUID)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param name Name of the bank.
+     * @param uuid UUID of the owner of the bank.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> createBankAsync(String name, UUID uuid) {
+        return VaultExecutor.supply(() -> createBank(name, uuid));
+    }
+
     @Deprecated
     default EconomyResponse createBank(String name, @NotNull Player player) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -428,13 +745,7 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse createBank(String name, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return createBank(name, player);
-        } else {
-            return createBank(name, Bukkit.getOfflinePlayer(playerName));
-        }
+        return createBank(name, PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -445,6 +756,18 @@ public interface Economy {
      */
     EconomyResponse deleteBank(String name);
 
+    /**
+     * Deletes the bank with the given name asynchronously.
+     * The default implementation runs {@link #deleteBank(String)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param name Name of the bank.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> deleteBankAsync(String name) {
+        return VaultExecutor.supply(() -> deleteBank(name));
+    }
+
     /**
      * Gets the balance of the given bank.
      *
@@ -471,6 +794,19 @@ public interface Economy {
      */
     EconomyResponse bankWithdraw(String name, double amount);
 
+    /**
+     * Withdraws the given amount from the given bank asynchronously.
+     * The default implementation runs {@link #bankWithdraw(String, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param name Name of the bank.
+     * @param amount Amount to withdraw.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> bankWithdrawAsync(String name, double amount) {
+        return VaultExecutor.supply(() -> bankWithdraw(name, amount));
+    }
+
     /**
      * Deposits the given amount to the given bank.
      *
@@ -480,6 +816,19 @@ public interface Economy {
      */
     EconomyResponse bankDeposit(String name, double amount);
 
+    /**
+     * Deposits the given amount to the given bank asynchronously.
+     * The default implementation runs {@link #bankDeposit(String, double)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param name Name of the bank.
+     * @param amount Amount to deposit.
+     * @return Future completed with the response object for the transaction.
+     */
+    default @NotNull CompletableFuture<EconomyResponse> bankDepositAsync(String name, double amount) {
+        return VaultExecutor.supply(() -> bankDeposit(name, amount));
+    }
+
     /**
      * Checks if the given player is the owner of the given bank.
      *
@@ -503,13 +852,7 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse isBankOwner(String name, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return isBankOwner(name, player);
-        } else {
-            return isBankOwner(name, Bukkit.getOfflinePlayer(playerName));
-        }
+        return isBankOwner(name, PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -535,13 +878,7 @@ public interface Economy {
 
     @Deprecated
     default EconomyResponse isBankMember(String name, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return isBankMember(name, player);
-        } else {
-            return isBankMember(name, Bukkit.getOfflinePlayer(playerName));
-        }
+        return isBankMember(name, PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -559,6 +896,18 @@ public interface Economy {
      */
     boolean createPlayerAccount(UUID uuid);
 
+    /**
+     * Creates an account for the given player asynchronously.
+     * The default implementation runs {@link #createPlayerAccount(UUID)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param uuid UUID of the player to create an account for.
+     * @return Future completed with the result of the account creation.
+     */
+    default @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(UUID uuid) {
+        return VaultExecutor.supply(() -> createPlayerAccount(uuid));
+    }
+
     @Deprecated
     default boolean createPlayerAccount(@NotNull Player player) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -573,13 +922,7 @@ public interface Economy {
 
     @Deprecated
     default boolean createPlayerAccount(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return createPlayerAccount(player);
-        } else {
-            return createPlayerAccount(Bukkit.getOfflinePlayer(playerName));
-        }
+        return createPlayerAccount(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -591,6 +934,19 @@ public interface Economy {
      */
     boolean createPlayerAccount(UUID uuid, String world);
 
+    /**
+     * Creates an account for the given player on the given world asynchronously.
+     * The default implementation runs {@link #createPlayerAccount(UUID, String)} on Vault's bounded executor;
+     * providers with a non-blocking backend may override this.
+     *
+     * @param uuid      UUID of the player to create an account for.
+     * @param world Name of the world to create an account for.
+     * @return Future completed with the result of the account creation.
+     */
+    default @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(UUID uuid, String world) {
+        return VaultExecutor.supply(() -> createPlayerAccount(uuid, world));
+    }
+
     @Deprecated
     default boolean createPlayerAccount(@NotNull Player player, String world) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -605,12 +961,6 @@ public interface Economy {
 
     @Deprecated
     default boolean createPlayerAccount(@NotNull String playerName, String world) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return createPlayerAccount(player, world);
-        } else {
-            return createPlayerAccount(Bukkit.getOfflinePlayer(playerName), world);
-        }
+        return createPlayerAccount(PlayerIndex.getUniqueId(playerName), world);
     }
 }
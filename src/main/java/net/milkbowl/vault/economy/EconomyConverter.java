@@ -0,0 +1,405 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import net.milkbowl.vault.Vault;
+import net.milkbowl.vault.util.MessageUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Converts player balances from one economy to another in the background.
+ * Players are processed in chunks, in UUID order. With a parallelism of 1, each chunk
+ * is converted on the server thread, so the economies are never called concurrently;
+ * otherwise chunks are split between that many worker threads.
+ * After each chunk, the last converted UUID is saved to a checkpoint file so an
+ * interrupted conversion between the same two economies resumes where it left off.
+ *
+ * @author Foulest
+ */
+public class EconomyConverter implements Runnable {
+
+    private static final AtomicReference<EconomyConverter> running = new AtomicReference<>();
+
+    private final @NotNull CommandSender sender;
+    private final @NotNull String fromName;
+    private final @NotNull Economy from;
+    private final @NotNull String toName;
+    private final @NotNull Economy to;
+    private final @NotNull File checkpointFile;
+    private final int parallelism;
+    private final int chunkSize;
+    private final long progressIntervalNanos;
+
+    private final LongAdder converted = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean stopped;
+    private @Nullable Thread thread;
+
+    /**
+     * Creates a new economy converter.
+     *
+     * @param sender                  The sender to report progress to.
+     * @param fromName                The name of the economy to convert from.
+     * @param from                    The economy to convert from.
+     * @param toName                  The name of the economy to convert to.
+     * @param to                      The economy to convert to.
+     * @param checkpointFile          The file used to store the checkpoint.
+     * @param parallelism             The number of players converted at the same time.
+     * @param chunkSize               The number of players converted between checkpoints.
+     * @param progressIntervalSeconds The interval in seconds between progress reports.
+     */
+    public EconomyConverter(@NotNull CommandSender sender,
+                            @NotNull String fromName, @NotNull Economy from,
+                            @NotNull String toName, @NotNull Economy to,
+                            @NotNull File checkpointFile,
+                            int parallelism, int chunkSize, int progressIntervalSeconds) {
+        this.sender = sender;
+        this.fromName = fromName;
+        this.from = from;
+        this.toName = toName;
+        this.to = to;
+        this.checkpointFile = checkpointFile;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        progressIntervalNanos = TimeUnit.SECONDS.toNanos(progressIntervalSeconds);
+    }
+
+    /**
+     * Starts the conversion on a background thread.
+     *
+     * @return Whether the conversion was started; false if another conversion is already running.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(null, this)) {
+            return false;
+        }
+
+        @NotNull Thread worker = new Thread(this, "Vault Convert Thread");
+        worker.setDaemon(true);
+        thread = worker;
+        worker.start();
+        return true;
+    }
+
+    /**
+     * Stops the running conversion, if any, after its current chunk.
+     * The checkpoint is kept so the conversion can be resumed later.
+     * When called from the server thread, Vault's tasks must be cancelled first,
+     * so a chunk waiting to run on the server thread doesn't delay the shutdown.
+     */
+    public static void stopRunning() {
+        @Nullable EconomyConverter converter = running.get();
+
+        if (converter == null) {
+            return;
+        }
+
+        converter.stopped = true;
+        @Nullable Thread worker = converter.thread;
+
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        @Nullable ExecutorService workers = parallelism == 1 ? null : Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public @NotNull Thread newThread(@NotNull Runnable runnable) {
+                @NotNull Thread worker = new Thread(runnable, "Vault Convert Worker #" + count.incrementAndGet());
+                worker.setDaemon(true);
+                return worker;
+            }
+        });
+
+        try {
+            @NotNull UUID[] uuids = getSortedPlayers();
+            int index = getResumeIndex(uuids);
+            int total = uuids.length;
+
+            if (index > 0) {
+                report(String.format("&eResuming conversion at %d/%d accounts.", index, total));
+            } else {
+                report(String.format("&eConverting %d accounts from %s to %s...", total, fromName, toName));
+            }
+
+            long startTime = System.nanoTime();
+            long lastReport = startTime;
+            int startIndex = index;
+
+            while (index < total && !stopped) {
+                int end = Math.min(total, index + chunkSize);
+
+                if (!convertChunk(workers, uuids, index, end)) {
+                    break;
+                }
+
+                index = end;
+                saveCheckpoint(uuids[end - 1]);
+
+                long now = System.nanoTime();
+
+                if (now - lastReport >= progressIntervalNanos) {
+                    lastReport = now;
+                    reportProgress(index, total, index - startIndex, now - startTime);
+                }
+            }
+
+            if (index < total) {
+                report(String.format("&eConversion paused at %d/%d accounts; run the command again to resume.", index, total));
+                return;
+            }
+
+            deleteCheckpoint();
+            reportProgress(index, total, index - startIndex, System.nanoTime() - startTime);
+            report("&aConversion complete. Please verify the data before using it.");
+        } catch (RuntimeException ex) {
+            report("&cConversion failed: " + ex.getMessage() + "; run the command again to resume.");
+            MessageUtil.log(Level.SEVERE, "Economy conversion from " + fromName + " to " + toName + " failed: " + ex);
+        } finally {
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+
+            running.set(null);
+        }
+    }
+
+    /**
+     * Converts a chunk of players on the server thread, or split evenly between the workers.
+     *
+     * @param workers The worker pool, or null to convert on the server thread.
+     * @param uuids   The sorted UUIDs of all players.
+     * @param start   The index of the first player in the chunk.
+     * @param end     The index after the last player in the chunk.
+     * @return Whether the chunk was converted; false if Vault was disabled before it ran.
+     */
+    private boolean convertChunk(@Nullable ExecutorService workers, @NotNull UUID[] uuids, int start, int end) {
+        if (workers == null) {
+            try {
+                Bukkit.getScheduler().callSyncMethod(Vault.getInstance(), () -> {
+                    convertRange(uuids, start, end);
+                    return null;
+                }).get();
+                return true;
+            } catch (IllegalPluginAccessException | CancellationException ex) {
+                return false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException ex) {
+                throw new CompletionException(ex.getCause());
+            }
+        }
+
+        int sliceSize = (end - start + parallelism - 1) / parallelism;
+        @NotNull CompletableFuture<?>[] slices = new CompletableFuture<?>[parallelism];
+        int count = 0;
+
+        for (int sliceStart = start; sliceStart < end; sliceStart += sliceSize) {
+            int from = sliceStart;
+            int to = Math.min(end, sliceStart + sliceSize);
+            slices[count++] = CompletableFuture.runAsync(() -> convertRange(uuids, from, to), workers);
+        }
+
+        CompletableFuture.allOf(Arrays.copyOf(slices, count)).join();
+        return true;
+    }
+
+    /**
+     * Converts the players in the given range.
+     *
+     * @param uuids The sorted UUIDs of all players.
+     * @param start The index of the first player to convert.
+     * @param end   The index after the last player to convert.
+     */
+    private void convertRange(@NotNull UUID[] uuids, int start, int end) {
+        for (int i = start; i < end; i++) {
+            @NotNull UUID uuid = uuids[i];
+
+            try {
+                if (convertPlayer(uuid)) {
+                    converted.increment();
+                } else {
+                    skipped.increment();
+                }
+            } catch (RuntimeException ex) {
+                failed.increment();
+                MessageUtil.log(Level.WARNING, "Failed to convert balance of " + uuid + ": " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sets a player's balance in the target economy to their balance in the source economy.
+     *
+     * @param uuid The UUID of the player.
+     * @return Whether the player had an account to convert.
+     */
+    private boolean convertPlayer(@NotNull UUID uuid) {
+        if (!from.hasAccount(uuid)) {
+            return false;
+        }
+
+        to.createPlayerAccount(uuid);
+        double balanceDiff = from.getBalance(uuid) - to.getBalance(uuid);
+
+        if (balanceDiff > 0) {
+            to.depositPlayer(uuid, balanceDiff);
+        } else if (balanceDiff < 0) {
+            to.withdrawPlayer(uuid, -balanceDiff);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the UUIDs of all players known to the server, sorted.
+     *
+     * @return The sorted UUIDs.
+     */
+    private static @NotNull UUID[] getSortedPlayers() {
+        @NotNull OfflinePlayer[] players = Bukkit.getServer().getOfflinePlayers();
+        @NotNull UUID[] uuids = new UUID[players.length];
+
+        for (int i = 0; i < players.length; i++) {
+            uuids[i] = players[i].getUniqueId();
+        }
+
+        Arrays.sort(uuids);
+        return uuids;
+    }
+
+    /**
+     * Gets the index to resume the conversion from, based on the checkpoint.
+     *
+     * @param uuids The sorted UUIDs of all players.
+     * @return The index of the first player that has not been converted yet.
+     */
+    private int getResumeIndex(@NotNull UUID[] uuids) {
+        if (!checkpointFile.exists()) {
+            return 0;
+        }
+
+        @NotNull YamlConfiguration checkpoint = YamlConfiguration.loadConfiguration(checkpointFile);
+        @Nullable String lastUuid = checkpoint.getString("last-uuid");
+
+        if (lastUuid == null
+                || !fromName.equalsIgnoreCase(checkpoint.getString("from"))
+                || !toName.equalsIgnoreCase(checkpoint.getString("to"))) {
+            return 0;
+        }
+
+        try {
+            int index = Arrays.binarySearch(uuids, UUID.fromString(lastUuid));
+            return index >= 0 ? index + 1 : -(index + 1);
+        } catch (IllegalArgumentException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * Saves the checkpoint after a completed chunk.
+     *
+     * @param lastUuid The UUID of the last converted player.
+     */
+    private void saveCheckpoint(@NotNull UUID lastUuid) {
+        @NotNull YamlConfiguration checkpoint = new YamlConfiguration();
+        checkpoint.set("from", fromName);
+        checkpoint.set("to", toName);
+        checkpoint.set("last-uuid", lastUuid.toString());
+
+        try {
+            checkpoint.save(checkpointFile);
+        } catch (IOException ex) {
+            MessageUtil.log(Level.WARNING, "Unable to save conversion checkpoint: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the checkpoint after a completed conversion.
+     */
+    private void deleteCheckpoint() {
+        if (checkpointFile.exists() && !checkpointFile.delete()) {
+            MessageUtil.log(Level.WARNING, "Unable to delete conversion checkpoint: " + checkpointFile.getName());
+        }
+    }
+
+    /**
+     * Reports the conversion progress and throughput.
+     *
+     * @param index       The number of players processed so far.
+     * @param total       The total number of players.
+     * @param processed   The number of players processed in this run.
+     * @param elapsedTime The time elapsed in this run, in nanoseconds.
+     */
+    private void reportProgress(int index, int total, int processed, long elapsedTime) {
+        double percent = total == 0 ? 100.0 : index * 100.0 / total;
+        double seconds = Math.max(1.0E-9, elapsedTime / 1.0E9);
+
+        report(String.format("&eConverted %d/%d accounts (%.1f%%) at %.0f accounts/s; %d converted, %d skipped, %d failed.",
+                index, total, percent, processed / seconds, converted.sum(), skipped.sum(), failed.sum()));
+    }
+
+    /**
+     * Sends a message to the sender on the server thread, and to the console if the sender is a player.
+     * Once Vault is disabled, the message is only sent to the console.
+     *
+     * @param message The message to send.
+     */
+    private void report(@NotNull String message) {
+        @NotNull String plainMessage = message.replaceAll("&[0-9a-fk-or]", "");
+
+        if (sender instanceof Player) {
+            MessageUtil.log(Level.INFO, plainMessage);
+        }
+
+        try {
+            Bukkit.getScheduler().runTask(Vault.getInstance(), () -> MessageUtil.messagePlayer(sender, message));
+        } catch (IllegalPluginAccessException ex) {
+            if (!(sender instanceof Player)) {
+                MessageUtil.log(Level.INFO, plainMessage);
+            }
+        }
+    }
+}
@@ -0,0 +1,607 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import lombok.Getter;
+import net.milkbowl.vault.util.ServiceDecorator;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class for Economy decorators; forwards every call to the decorated provider.
+ *
+ * @author Foulest
+ */
+@Getter
+public abstract class EconomyDecorator implements Economy, ServiceDecorator<Economy> {
+
+    private final @NotNull Economy delegate;
+
+    protected EconomyDecorator(@NotNull Economy delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return delegate.hasBankSupport();
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return delegate.fractionalDigits();
+    }
+
+    @Override
+    public long toMinorUnits(double amount) {
+        return delegate.toMinorUnits(amount);
+    }
+
+    @Override
+    public double fromMinorUnits(long minorUnits) {
+        return delegate.fromMinorUnits(minorUnits);
+    }
+
+    @Override
+    public String format(double amount) {
+        return delegate.format(amount);
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        return delegate.currencyNamePlural();
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        return delegate.currencyNameSingular();
+    }
+
+    @Override
+    public boolean hasAccount(UUID uuid) {
+        return delegate.hasAccount(uuid);
+    }
+
+    @Override
+    public @NotNull Map<UUID, Boolean> hasAccounts(@NotNull Collection<UUID> uuids) {
+        return delegate.hasAccounts(uuids);
+    }
+
+    @Override
+    public boolean hasAccount(UUID uuid, String world) {
+        return delegate.hasAccount(uuid, world);
+    }
+
+    @Override
+    public double getBalance(UUID uuid) {
+        return delegate.getBalance(uuid);
+    }
+
+    @Override
+    public @NotNull Map<UUID, Double> getBalances(@NotNull Collection<UUID> uuids) {
+        return delegate.getBalances(uuids);
+    }
+
+    @Override
+    public double getBalance(UUID uuid, String world) {
+        return delegate.getBalance(uuid, world);
+    }
+
+    @Override
+    public boolean has(UUID uuid, double amount) {
+        return delegate.has(uuid, amount);
+    }
+
+    @Override
+    public boolean has(UUID uuid, String world, double amount) {
+        return delegate.has(uuid, world, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(UUID uuid, double amount) {
+        return delegate.withdrawPlayer(uuid, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(UUID uuid, double amount) {
+        return delegate.withdrawPlayerAsync(uuid, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(UUID uuid, String world, double amount) {
+        return delegate.withdrawPlayer(uuid, world, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(UUID uuid, String world, double amount) {
+        return delegate.withdrawPlayerAsync(uuid, world, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(UUID uuid, double amount) {
+        return delegate.depositPlayer(uuid, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(UUID uuid, double amount) {
+        return delegate.depositPlayerAsync(uuid, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(UUID uuid, String world, double amount) {
+        return delegate.depositPlayer(uuid, world, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(UUID uuid, String world, double amount) {
+        return delegate.depositPlayerAsync(uuid, world, amount);
+    }
+
+    @Override
+    public long getBalanceMinor(UUID uuid) {
+        return delegate.getBalanceMinor(uuid);
+    }
+
+    @Override
+    public long getBalanceMinor(UUID uuid, String world) {
+        return delegate.getBalanceMinor(uuid, world);
+    }
+
+    @Override
+    public boolean hasMinor(UUID uuid, long minorUnits) {
+        return delegate.hasMinor(uuid, minorUnits);
+    }
+
+    @Override
+    public boolean hasMinor(UUID uuid, String world, long minorUnits) {
+        return delegate.hasMinor(uuid, world, minorUnits);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayerMinor(UUID uuid, long minorUnits) {
+        return delegate.withdrawPlayerMinor(uuid, minorUnits);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayerMinor(UUID uuid, String world, long minorUnits) {
+        return delegate.withdrawPlayerMinor(uuid, world, minorUnits);
+    }
+
+    @Override
+    public EconomyResponse depositPlayerMinor(UUID uuid, long minorUnits) {
+        return delegate.depositPlayerMinor(uuid, minorUnits);
+    }
+
+    @Override
+    public EconomyResponse depositPlayerMinor(UUID uuid, String world, long minorUnits) {
+        return delegate.depositPlayerMinor(uuid, world, minorUnits);
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(UUID uuid, double amount) {
+        return delegate.withdrawPlayerForBalance(uuid, amount);
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(UUID uuid, String world, double amount) {
+        return delegate.withdrawPlayerForBalance(uuid, world, amount);
+    }
+
+    @Override
+    public double depositPlayerForBalance(UUID uuid, double amount) {
+        return delegate.depositPlayerForBalance(uuid, amount);
+    }
+
+    @Override
+    public double depositPlayerForBalance(UUID uuid, String world, double amount) {
+        return delegate.depositPlayerForBalance(uuid, world, amount);
+    }
+
+    @Override
+    public EconomyResponse transfer(UUID from, UUID to, double amount) {
+        return delegate.transfer(from, to, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> transferAsync(UUID from, UUID to, double amount) {
+        return delegate.transferAsync(from, to, amount);
+    }
+
+    @Override
+    public @NotNull List<EconomyResponse> submit(@NotNull EconomyTransaction transaction) {
+        return delegate.submit(transaction);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<EconomyResponse>> submitAsync(@NotNull EconomyTransaction transaction) {
+        return delegate.submitAsync(transaction);
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, UUID uuid) {
+        return delegate.createBank(name, uuid);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> createBankAsync(String name, UUID uuid) {
+        return delegate.createBankAsync(name, uuid);
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return delegate.deleteBank(name);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> deleteBankAsync(String name) {
+        return delegate.deleteBankAsync(name);
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return delegate.bankBalance(name);
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return delegate.bankHas(name, amount);
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return delegate.bankWithdraw(name, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> bankWithdrawAsync(String name, double amount) {
+        return delegate.bankWithdrawAsync(name, amount);
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return delegate.bankDeposit(name, amount);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> bankDepositAsync(String name, double amount) {
+        return delegate.bankDepositAsync(name, amount);
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, UUID uuid) {
+        return delegate.isBankOwner(name, uuid);
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, UUID uuid) {
+        return delegate.isBankMember(name, uuid);
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return delegate.getBanks();
+    }
+
+    @Override
+    public boolean createPlayerAccount(UUID uuid) {
+        return delegate.createPlayerAccount(uuid);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(UUID uuid) {
+        return delegate.createPlayerAccountAsync(uuid);
+    }
+
+    @Override
+    public boolean createPlayerAccount(UUID uuid, String world) {
+        return delegate.createPlayerAccount(uuid, world);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(UUID uuid, String world) {
+        return delegate.createPlayerAccountAsync(uuid, world);
+    }
+
+    // Deprecated overloads are forwarded too, as providers may override them,
+    // for example to resolve names of accounts that don't belong to a player.
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull Player player) {
+        return delegate.hasAccount(player);
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull OfflinePlayer player) {
+        return delegate.hasAccount(player);
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull String playerName) {
+        return delegate.hasAccount(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull Player player, String world) {
+        return delegate.hasAccount(player, world);
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull OfflinePlayer player, String world) {
+        return delegate.hasAccount(player, world);
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull String playerName, String world) {
+        return delegate.hasAccount(playerName, world);
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull Player player) {
+        return delegate.getBalance(player);
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull OfflinePlayer player) {
+        return delegate.getBalance(player);
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull String playerName) {
+        return delegate.getBalance(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull Player player, String world) {
+        return delegate.getBalance(player, world);
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull OfflinePlayer player, String world) {
+        return delegate.getBalance(player, world);
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull String playerName, String world) {
+        return delegate.getBalance(playerName, world);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull Player player, double amount) {
+        return delegate.has(player, amount);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull OfflinePlayer player, double amount) {
+        return delegate.has(player, amount);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull String playerName, double amount) {
+        return delegate.has(playerName, amount);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull Player player, String world, double amount) {
+        return delegate.has(player, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull OfflinePlayer player, String world, double amount) {
+        return delegate.has(player, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull String playerName, String world, double amount) {
+        return delegate.has(playerName, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull Player player, double amount) {
+        return delegate.withdrawPlayer(player, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull OfflinePlayer player, double amount) {
+        return delegate.withdrawPlayer(player, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull String playerName, double amount) {
+        return delegate.withdrawPlayer(playerName, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull Player player, String world, double amount) {
+        return delegate.withdrawPlayer(player, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull OfflinePlayer player, String world, double amount) {
+        return delegate.withdrawPlayer(player, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull String playerName, String world, double amount) {
+        return delegate.withdrawPlayer(playerName, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull Player player, double amount) {
+        return delegate.depositPlayer(player, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull OfflinePlayer player, double amount) {
+        return delegate.depositPlayer(player, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull String playerName, double amount) {
+        return delegate.depositPlayer(playerName, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull Player player, String world, double amount) {
+        return delegate.depositPlayer(player, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull OfflinePlayer player, String world, double amount) {
+        return delegate.depositPlayer(player, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull String playerName, String world, double amount) {
+        return delegate.depositPlayer(playerName, world, amount);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse createBank(String name, @NotNull Player player) {
+        return delegate.createBank(name, player);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse createBank(String name, @NotNull OfflinePlayer player) {
+        return delegate.createBank(name, player);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse createBank(String name, @NotNull String playerName) {
+        return delegate.createBank(name, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankOwner(String name, @NotNull Player player) {
+        return delegate.isBankOwner(name, player);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankOwner(String name, @NotNull OfflinePlayer player) {
+        return delegate.isBankOwner(name, player);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankOwner(String name, @NotNull String playerName) {
+        return delegate.isBankOwner(name, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankMember(String name, @NotNull Player player) {
+        return delegate.isBankMember(name, player);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankMember(String name, @NotNull OfflinePlayer player) {
+        return delegate.isBankMember(name, player);
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankMember(String name, @NotNull String playerName) {
+        return delegate.isBankMember(name, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull Player player) {
+        return delegate.createPlayerAccount(player);
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull OfflinePlayer player) {
+        return delegate.createPlayerAccount(player);
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull String playerName) {
+        return delegate.createPlayerAccount(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull Player player, String world) {
+        return delegate.createPlayerAccount(player, world);
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull OfflinePlayer player, String world) {
+        return delegate.createPlayerAccount(player, world);
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull String playerName, String world) {
+        return delegate.createPlayerAccount(playerName, world);
+    }
+}
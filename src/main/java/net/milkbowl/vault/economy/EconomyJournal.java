@@ -0,0 +1,378 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Append-only balance journal with snapshot compaction, used by {@link FileEconomy}.
+ * <p>
+ * Every balance change is appended as a fixed-size binary record to a memory-mapped
+ * journal file. When the journal fills up, all balances are written to a snapshot file
+ * and the journal is cleared. On startup, the snapshot is loaded and the journal replayed.
+ * <p>
+ * The snapshot and journal both carry an epoch, which is incremented by every compaction;
+ * a journal is only replayed onto the snapshot of the same epoch, so a crash in the middle
+ * of a compaction never applies a change twice. Each record's checksum covers the epoch,
+ * so leftover records of an older epoch, and torn writes, are skipped.
+ * <p>
+ * This class is not thread-safe on its own; {@link #append} may be called concurrently,
+ * but must not run at the same time as {@link #compact} or {@link #close}.
+ *
+ * @author Foulest
+ */
+class EconomyJournal implements Closeable {
+
+    // Record types.
+    static final int CREATE = 1;
+    static final int ADJUST = 2;
+
+    private static final long JOURNAL_MAGIC = 0x5641554c544a524eL; // "VAULTJRN"
+    private static final int SNAPSHOT_MAGIC = 0x5641534e; // "VASN"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 32;
+
+    private final @NotNull File journalFile;
+    private final @NotNull File snapshotFile;
+    private final int capacity;
+
+    private final AtomicLong position = new AtomicLong(HEADER_SIZE);
+
+    // Number of records fully written, and the number that were written when last forced to disk.
+    // An offset is claimed before its record is written, so the position alone can't tell.
+    private final AtomicLong written = new AtomicLong();
+    private volatile long syncedWritten;
+    private @Nullable FileChannel channel;
+    private @Nullable MappedByteBuffer buffer;
+    private long epoch;
+
+    /**
+     * Creates a journal in the given folder. The files are not opened until {@link #open} is called.
+     *
+     * @param folder   The folder to store the journal and snapshot in.
+     * @param capacity The size of the journal file in bytes.
+     */
+    EconomyJournal(@NotNull File folder, int capacity) {
+        journalFile = new File(folder, "economy.journal");
+        snapshotFile = new File(folder, "economy.snapshot");
+        this.capacity = Math.max(HEADER_SIZE + RECORD_SIZE, capacity - (capacity - HEADER_SIZE) % RECORD_SIZE);
+    }
+
+    /**
+     * Recovers the balances from the snapshot and journal, saves them to a new snapshot,
+     * and starts a new, empty journal.
+     *
+     * @param accounts        The map to load the balances into.
+     * @param startingBalance The starting balance of accounts created by a replayed record.
+     * @return The number of journal records that were replayed.
+     * @throws IOException If the files can't be read or written.
+     */
+    int open(@NotNull Map<UUID, AtomicLong> accounts, long startingBalance) throws IOException {
+        epoch = readSnapshot(accounts);
+        int replayed = replayJournal(accounts, startingBalance);
+
+        // Saves the recovered balances before the old journal is discarded.
+        long nextEpoch = epoch + 1;
+        writeSnapshot(accounts, nextEpoch);
+        epoch = nextEpoch;
+
+        channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(0);
+
+        @NotNull MappedByteBuffer target = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        target.putLong(0, JOURNAL_MAGIC);
+        target.putLong(8, epoch);
+        target.force();
+        buffer = target;
+        return replayed;
+    }
+
+    /**
+     * Appends a record to the journal.
+     *
+     * @param type   The record type.
+     * @param uuid   The UUID of the account.
+     * @param amount The starting balance for {@link #CREATE}, or the change in balance for {@link #ADJUST}.
+     * @return Whether the record was appended; false if the journal is full.
+     */
+    boolean append(int type, @NotNull UUID uuid, long amount) {
+        @Nullable MappedByteBuffer target = buffer;
+
+        if (target == null) {
+            throw new IllegalStateException("Journal is closed");
+        }
+
+        long offset = position.getAndAdd(RECORD_SIZE);
+
+        if (offset + RECORD_SIZE > capacity) {
+            return false;
+        }
+
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int index = (int) offset;
+
+        target.putLong(index, msb);
+        target.putLong(index + 8, lsb);
+        target.putLong(index + 16, amount);
+        target.putInt(index + 24, type);
+        target.putInt(index + 28, checksum(epoch, msb, lsb, amount, type));
+        written.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Writes all balances to a new snapshot and clears the journal.
+     *
+     * @param accounts The current balances.
+     * @throws IOException If the snapshot can't be written.
+     */
+    void compact(@NotNull Map<UUID, AtomicLong> accounts) throws IOException {
+        @Nullable MappedByteBuffer target = buffer;
+
+        if (target == null) {
+            throw new IllegalStateException("Journal is closed");
+        }
+
+        // The snapshot must be durable before the journal it replaces is cleared.
+        long nextEpoch = epoch + 1;
+        writeSnapshot(accounts, nextEpoch);
+
+        long end = Math.min(position.get(), capacity);
+
+        for (int i = HEADER_SIZE; i < end; i += 8) {
+            target.putLong(i, 0L);
+        }
+
+        target.force();
+        target.putLong(0, JOURNAL_MAGIC);
+        target.putLong(8, nextEpoch);
+        target.force();
+
+        epoch = nextEpoch;
+        position.set(HEADER_SIZE);
+        syncedWritten = written.get();
+    }
+
+    /**
+     * Flushes all appended records to disk. Records still being written are
+     * counted as unsynced, so they are flushed by the next call.
+     */
+    void sync() {
+        @Nullable MappedByteBuffer target = buffer;
+        long current = written.get();
+
+        if (target != null && current != syncedWritten) {
+            target.force();
+            syncedWritten = current;
+        }
+    }
+
+    /**
+     * Gets the number of bytes used by records in the journal.
+     *
+     * @return The used size in bytes.
+     */
+    long getUsedBytes() {
+        return Math.min(position.get(), capacity) - HEADER_SIZE;
+    }
+
+    /**
+     * Gets the number of bytes available for records in the journal.
+     *
+     * @return The record capacity in bytes.
+     */
+    long getCapacityBytes() {
+        return capacity - HEADER_SIZE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        buffer = null;
+
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Loads the balances from the snapshot file, if it exists.
+     *
+     * @param accounts The map to load the balances into.
+     * @return The epoch of the snapshot, or 0 if there is none.
+     * @throws IOException If the snapshot can't be read or is corrupt.
+     */
+    private long readSnapshot(@NotNull Map<UUID, AtomicLong> accounts) throws IOException {
+        if (!snapshotFile.exists()) {
+            return 0L;
+        }
+
+        @NotNull CRC32 crc = new CRC32();
+
+        try (@NotNull DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(new FileInputStream(snapshotFile)), crc))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unrecognized economy snapshot: " + snapshotFile);
+            }
+
+            long snapshotEpoch = in.readLong();
+            int count = in.readInt();
+
+            for (int i = 0; i < count; i++) {
+                @NotNull UUID uuid = new UUID(in.readLong(), in.readLong());
+                accounts.put(uuid, new AtomicLong(in.readLong()));
+            }
+
+            long expected = crc.getValue();
+
+            if (in.readLong() != expected) {
+                throw new IOException("Corrupt economy snapshot: " + snapshotFile);
+            }
+            return snapshotEpoch;
+        }
+    }
+
+    /**
+     * Writes the balances to a new snapshot file, replacing the current one atomically.
+     *
+     * @param accounts      The balances to write.
+     * @param snapshotEpoch The epoch of the new snapshot.
+     * @throws IOException If the snapshot can't be written.
+     */
+    private void writeSnapshot(@NotNull Map<UUID, AtomicLong> accounts, long snapshotEpoch) throws IOException {
+        @NotNull File tempFile = new File(snapshotFile.getPath() + ".tmp");
+        @NotNull CRC32 crc = new CRC32();
+
+        try (@NotNull FileOutputStream fileOut = new FileOutputStream(tempFile);
+             @NotNull DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                     new BufferedOutputStream(fileOut), crc))) {
+            // Copies the entries first, so the count matches even if accounts are added meanwhile.
+            @NotNull Object[] entries = accounts.entrySet().toArray();
+
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(snapshotEpoch);
+            out.writeInt(entries.length);
+
+            for (@NotNull Object object : entries) {
+                @SuppressWarnings("unchecked")
+                Map.Entry<UUID, AtomicLong> entry = (Map.Entry<UUID, AtomicLong>) object;
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeLong(entry.getValue().get());
+            }
+
+            out.flush();
+            out.writeLong(crc.getValue());
+            out.flush();
+            fileOut.getFD().sync();
+        }
+
+        Files.move(tempFile.toPath(), snapshotFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replays the records of the journal file onto the balances loaded from the snapshot.
+     *
+     * @param accounts        The balances to update.
+     * @param startingBalance The starting balance of accounts created by a replayed record.
+     * @return The number of replayed records.
+     * @throws IOException If the journal can't be read.
+     */
+    private int replayJournal(@NotNull Map<UUID, AtomicLong> accounts, long startingBalance) throws IOException {
+        if (!journalFile.exists() || journalFile.length() < HEADER_SIZE) {
+            return 0;
+        }
+
+        try (@NotNull FileChannel in = FileChannel.open(journalFile.toPath(), StandardOpenOption.READ)) {
+            @NotNull MappedByteBuffer journal = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+
+            // A journal of another epoch was already compacted into the snapshot.
+            if (journal.getLong(0) != JOURNAL_MAGIC || journal.getLong(8) != epoch) {
+                return 0;
+            }
+
+            int replayed = 0;
+            int end = journal.capacity() - RECORD_SIZE;
+
+            // Records may be missing or torn anywhere, since appends run concurrently;
+            // every slot is checked rather than stopping at the first invalid one.
+            for (int index = HEADER_SIZE; index <= end; index += RECORD_SIZE) {
+                long msb = journal.getLong(index);
+                long lsb = journal.getLong(index + 8);
+                long amount = journal.getLong(index + 16);
+                int type = journal.getInt(index + 24);
+
+                if ((type != CREATE && type != ADJUST)
+                        || journal.getInt(index + 28) != checksum(epoch, msb, lsb, amount, type)) {
+                    continue;
+                }
+
+                @NotNull UUID uuid = new UUID(msb, lsb);
+
+                if (type == CREATE) {
+                    accounts.putIfAbsent(uuid, new AtomicLong(amount));
+                } else {
+                    accounts.computeIfAbsent(uuid, key -> new AtomicLong(startingBalance)).addAndGet(amount);
+                }
+
+                replayed++;
+            }
+            return replayed;
+        }
+    }
+
+    /**
+     * Computes the checksum of a record.
+     *
+     * @param epoch  The journal epoch.
+     * @param msb    The most significant bits of the UUID.
+     * @param lsb    The least significant bits of the UUID.
+     * @param amount The record amount.
+     * @param type   The record type.
+     * @return The checksum; never zero.
+     */
+    private static int checksum(long epoch, long msb, long lsb, long amount, int type) {
+        long hash = epoch * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ msb) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ lsb) * 0x94D049BB133111EBL;
+        hash = (hash ^ amount) * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ type) * 0xBF58476D1CE4E5B9L;
+        int result = (int) (hash ^ (hash >>> 32));
+        return result == 0 ? 1 : result;
+    }
+}
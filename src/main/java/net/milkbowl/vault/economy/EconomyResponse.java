@@ -34,6 +34,24 @@ import org.jetbrains.annotations.Nullable;
 @SuppressWarnings("unused")
 public class EconomyResponse {
 
+    /**
+     * Shared response for providers that don't support banks.
+     */
+    public static final EconomyResponse BANKS_NOT_SUPPORTED = new EconomyResponse(0, 0,
+            ResponseType.NOT_IMPLEMENTED, "Banks are not supported.");
+
+    /**
+     * Shared response for methods a provider doesn't implement.
+     */
+    public static final EconomyResponse NOT_IMPLEMENTED = new EconomyResponse(0, 0,
+            ResponseType.NOT_IMPLEMENTED, "Not implemented.");
+
+    /**
+     * Shared response for transactions with a negative, infinite or NaN amount.
+     */
+    public static final EconomyResponse INVALID_AMOUNT = new EconomyResponse(0, 0,
+            ResponseType.FAILURE, "Cannot use negative or invalid amounts.");
+
     public final double amount;
     public final double balance;
     public final @NotNull ResponseType type;
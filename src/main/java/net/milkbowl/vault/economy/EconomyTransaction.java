@@ -0,0 +1,286 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Builder for a batch of economy operations that are submitted together with
+ * {@link Economy#submit(EconomyTransaction)}, and either all succeed or are all undone.
+ *
+ * @author Foulest
+ */
+@ToString
+@SuppressWarnings("unused")
+public class EconomyTransaction {
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Adds a withdrawal from the given player.
+     *
+     * @param uuid   UUID of the player to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return This transaction.
+     */
+    public @NotNull EconomyTransaction withdraw(@NotNull UUID uuid, double amount) {
+        return add(new Operation(OperationType.WITHDRAW, uuid, null, null, amount));
+    }
+
+    /**
+     * Adds a withdrawal from the given player on the given world.
+     *
+     * @param uuid   UUID of the player to withdraw from.
+     * @param world  Name of the world to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return This transaction.
+     */
+    public @NotNull EconomyTransaction withdraw(@NotNull UUID uuid, @Nullable String world, double amount) {
+        return add(new Operation(OperationType.WITHDRAW, uuid, world, null, amount));
+    }
+
+    /**
+     * Adds a deposit to the given player.
+     *
+     * @param uuid   UUID of the player to deposit to.
+     * @param amount Amount to deposit.
+     * @return This transaction.
+     */
+    public @NotNull EconomyTransaction deposit(@NotNull UUID uuid, double amount) {
+        return add(new Operation(OperationType.DEPOSIT, uuid, null, null, amount));
+    }
+
+    /**
+     * Adds a deposit to the given player on the given world.
+     *
+     * @param uuid   UUID of the player to deposit to.
+     * @param world  Name of the world to deposit to.
+     * @param amount Amount to deposit.
+     * @return This transaction.
+     */
+    public @NotNull EconomyTransaction deposit(@NotNull UUID uuid, @Nullable String world, double amount) {
+        return add(new Operation(OperationType.DEPOSIT, uuid, world, null, amount));
+    }
+
+    /**
+     * Adds a withdrawal from the given bank.
+     *
+     * @param bank   Name of the bank to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return This transaction.
+     */
+    public @NotNull EconomyTransaction bankWithdraw(@NotNull String bank, double amount) {
+        return add(new Operation(OperationType.BANK_WITHDRAW, null, null, bank, amount));
+    }
+
+    /**
+     * Adds a deposit to the given bank.
+     *
+     * @param bank   Name of the bank to deposit to.
+     * @param amount Amount to deposit.
+     * @return This transaction.
+     */
+    public @NotNull EconomyTransaction bankDeposit(@NotNull String bank, double amount) {
+        return add(new Operation(OperationType.BANK_DEPOSIT, null, null, bank, amount));
+    }
+
+    /**
+     * Gets the operations of this transaction, in the order they were added.
+     *
+     * @return An unmodifiable view of the operations.
+     */
+    public @NotNull List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Gets the players affected by this transaction.
+     *
+     * @return The UUIDs of the players withdrawn from or deposited to.
+     */
+    public @NotNull Set<UUID> getPlayers() {
+        @NotNull Set<UUID> players = new HashSet<>();
+
+        for (@NotNull Operation operation : operations) {
+            if (operation.uuid != null) {
+                players.add(operation.uuid);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Runs the operations one at a time on the given economy. If an operation fails,
+     * the operations that already succeeded are undone in reverse order, and the
+     * remaining operations are skipped.
+     *
+     * @param economy The economy to run the operations on.
+     * @return One response per operation, in the order they were added.
+     */
+    @NotNull List<EconomyResponse> runSequentially(@NotNull Economy economy) {
+        @NotNull List<Operation> snapshot = new ArrayList<>(operations);
+        @NotNull List<EconomyResponse> responses = new ArrayList<>(snapshot.size());
+
+        for (@NotNull Operation operation : snapshot) {
+            @Nullable EconomyResponse response = operation.apply(economy);
+
+            if (response != null && response.transactionSuccess()) {
+                responses.add(response);
+                continue;
+            }
+
+            @Nullable String reason = response == null ? "Operation failed" : response.errorMessage;
+            int failed = responses.size();
+
+            // Undoes the completed operations, newest first, by the amounts they actually moved.
+            for (int i = failed - 1; i >= 0; i--) {
+                @Nullable EconomyResponse undo = snapshot.get(i).revert(economy, responses.get(i).amount);
+                boolean undone = undo != null && undo.transactionSuccess();
+                double balance = undone ? undo.balance : responses.get(i).balance;
+                @NotNull String message = (undone ? "Rolled back: " : "Rollback failed: ") + reason;
+                responses.set(i, new EconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, message));
+            }
+
+            responses.add(response != null ? response
+                    : new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, reason));
+
+            for (int i = failed + 1; i < snapshot.size(); i++) {
+                responses.add(new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Not attempted: " + reason));
+            }
+            return responses;
+        }
+        return responses;
+    }
+
+    /**
+     * Adds an operation to this transaction.
+     *
+     * @param operation The operation to add.
+     * @return This transaction.
+     * @throws IllegalArgumentException If the amount is negative, infinite or NaN.
+     */
+    private @NotNull EconomyTransaction add(@NotNull Operation operation) {
+        if (operation.amount < 0 || !Double.isFinite(operation.amount)) {
+            throw new IllegalArgumentException("Amount must be a finite, non-negative number: " + operation.amount);
+        }
+
+        operations.add(operation);
+        return this;
+    }
+
+    /**
+     * The types of operation a transaction can hold.
+     */
+    public enum OperationType {
+        WITHDRAW,
+        DEPOSIT,
+        BANK_WITHDRAW,
+        BANK_DEPOSIT
+    }
+
+    /**
+     * A single operation of a transaction.
+     */
+    @Getter
+    @ToString
+    public static class Operation {
+
+        private final @NotNull OperationType type;
+        private final @Nullable UUID uuid;
+        private final @Nullable String world;
+        private final @Nullable String bank;
+        private final double amount;
+
+        /**
+         * Creates an operation. Exactly one of the player and bank is set.
+         *
+         * @param type   The type of the operation.
+         * @param uuid   UUID of the player, or null for a bank operation.
+         * @param world  Name of the world, or null for the default world.
+         * @param bank   Name of the bank, or null for a player operation.
+         * @param amount Amount of the operation.
+         */
+        Operation(@NotNull OperationType type, @Nullable UUID uuid,
+                  @Nullable String world, @Nullable String bank, double amount) {
+            this.type = type;
+            this.uuid = uuid;
+            this.world = world;
+            this.bank = bank;
+            this.amount = amount;
+        }
+
+        /**
+         * Runs this operation on the given economy.
+         *
+         * @param economy The economy to run the operation on.
+         * @return The response of the operation.
+         */
+        EconomyResponse apply(@NotNull Economy economy) {
+            return run(economy, type, amount);
+        }
+
+        /**
+         * Runs the inverse of this operation on the given economy.
+         *
+         * @param economy The economy to run the operation on.
+         * @param amount  The amount this operation moved, which may differ from the requested
+         *                amount if the provider applied fees or rounding.
+         * @return The response of the inverse operation.
+         */
+        EconomyResponse revert(@NotNull Economy economy, double amount) {
+            switch (type) {
+                case WITHDRAW:
+                    return run(economy, OperationType.DEPOSIT, amount);
+                case DEPOSIT:
+                    return run(economy, OperationType.WITHDRAW, amount);
+                case BANK_WITHDRAW:
+                    return run(economy, OperationType.BANK_DEPOSIT, amount);
+                default:
+                    return run(economy, OperationType.BANK_WITHDRAW, amount);
+            }
+        }
+
+        /**
+         * Runs an operation of the given type with this operation's target.
+         *
+         * @param economy       The economy to run the operation on.
+         * @param operationType The type of operation to run.
+         * @param amount        The amount to move.
+         * @return The response of the operation.
+         */
+        private EconomyResponse run(@NotNull Economy economy, @NotNull OperationType operationType, double amount) {
+            switch (operationType) {
+                case WITHDRAW:
+                    return world == null ? economy.withdrawPlayer(uuid, amount)
+                            : economy.withdrawPlayer(uuid, world, amount);
+                case DEPOSIT:
+                    return world == null ? economy.depositPlayer(uuid, amount)
+                            : economy.depositPlayer(uuid, world, amount);
+                case BANK_WITHDRAW:
+                    return economy.bankWithdraw(bank, amount);
+                default:
+                    return economy.bankDeposit(bank, amount);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import net.milkbowl.vault.util.MessageUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+
+/**
+ * File-backed variant of {@link MemoryEconomy}.
+ * Balances are kept in memory, and every change is appended to an {@link EconomyJournal}.
+ * Appended records are flushed to disk together in the background every sync interval,
+ * and the journal is compacted into a snapshot once it is half full. Changes made within
+ * the last sync interval before a crash may be lost.
+ *
+ * @author Foulest
+ */
+public class FileEconomy extends MemoryEconomy implements Closeable {
+
+    // Appends hold the read lock so they can run concurrently; compaction holds the write lock.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final @NotNull EconomyJournal journal;
+    private final @NotNull ScheduledExecutorService syncer;
+
+    /**
+     * Creates a file-backed economy, recovering its balances from the given folder.
+     *
+     * @param folder             The folder to store the journal and snapshot in.
+     * @param startingBalance    The balance of newly created accounts.
+     * @param currencySingular   The singular name of the currency.
+     * @param currencyPlural     The plural name of the currency.
+     * @param journalSize        The size of the journal file in bytes.
+     * @param syncIntervalMillis The interval in milliseconds between flushes of the journal.
+     * @throws IOException If the balances can't be recovered.
+     */
+    public FileEconomy(@NotNull File folder, double startingBalance,
+                       @NotNull String currencySingular, @NotNull String currencyPlural,
+                       int journalSize, long syncIntervalMillis) throws IOException {
+        super(startingBalance, currencySingular, currencyPlural);
+
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Unable to create folder: " + folder);
+        }
+
+        journal = new EconomyJournal(folder, journalSize);
+        int replayed = journal.open(getAccounts(), getStartingBalanceMinor());
+        MessageUtil.log(Level.INFO, "Loaded " + getAccounts().size() + " economy accounts ("
+                + replayed + " journal records replayed).");
+
+        syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            @NotNull Thread thread = new Thread(runnable, "Vault Journal Thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "VaultFileEconomy";
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid) {
+        boolean full;
+        boolean created;
+        lock.readLock().lock();
+
+        try {
+            full = !journalCreate(uuid);
+            created = super.createPlayerAccount(uuid);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (full) {
+            compact(false);
+        }
+        return created;
+    }
+
+    @Override
+    protected long withdrawMinor(@NotNull UUID uuid, long minorUnits) {
+        return adjust(uuid, minorUnits, true);
+    }
+
+    @Override
+    protected long depositMinor(@NotNull UUID uuid, long minorUnits) {
+        return adjust(uuid, minorUnits, false);
+    }
+
+    /**
+     * Flushes the journal, saves a final snapshot and closes the files.
+     *
+     * @throws IOException If the snapshot can't be written.
+     */
+    @Override
+    public void close() throws IOException {
+        syncer.shutdown();
+
+        try {
+            syncer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            journal.compact(getAccounts());
+            journal.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Withdraws or deposits an amount and journals the change.
+     *
+     * @param uuid       The UUID of the player.
+     * @param minorUnits The amount in cents.
+     * @param withdraw   Whether to withdraw rather than deposit.
+     * @return The new balance in cents, or {@link #REJECTED} if the balance doesn't allow the change.
+     */
+    private long adjust(@NotNull UUID uuid, long minorUnits, boolean withdraw) {
+        long balance;
+        boolean full;
+        lock.readLock().lock();
+
+        try {
+            full = !journalCreate(uuid);
+            balance = withdraw ? super.withdrawMinor(uuid, minorUnits) : super.depositMinor(uuid, minorUnits);
+
+            if (balance != REJECTED && minorUnits != 0 && !full) {
+                full = !journal.append(EconomyJournal.ADJUST, uuid, withdraw ? -minorUnits : minorUnits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // The change is in memory, so the snapshot written by the compaction includes it.
+        if (full) {
+            compact(false);
+        }
+        return balance;
+    }
+
+    /**
+     * Journals the creation of an account if it doesn't exist yet.
+     * Must be called with the read lock held, before the account is created.
+     *
+     * @param uuid The UUID of the player.
+     * @return Whether the journal had room for the record.
+     */
+    private boolean journalCreate(@NotNull UUID uuid) {
+        return hasAccount(uuid) || journal.append(EconomyJournal.CREATE, uuid, getStartingBalanceMinor());
+    }
+
+    /**
+     * Flushes the journal to disk, compacting it once it is half full.
+     */
+    private void sync() {
+        lock.readLock().lock();
+
+        try {
+            journal.sync();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        compact(true);
+    }
+
+    /**
+     * Compacts the journal into a new snapshot.
+     *
+     * @param onlyIfHalfFull Whether to skip the compaction unless the journal is at least half full;
+     *                       otherwise it is skipped unless the journal is full.
+     */
+    private void compact(boolean onlyIfHalfFull) {
+        lock.writeLock().lock();
+
+        try {
+            long threshold = onlyIfHalfFull ? journal.getCapacityBytes() / 2 : journal.getCapacityBytes();
+
+            if (journal.getUsedBytes() >= threshold) {
+                journal.compact(getAccounts());
+            }
+        } catch (IOException ex) {
+            MessageUtil.log(Level.SEVERE, "Unable to compact the economy journal: " + ex.getMessage());
+        } catch (RuntimeException ex) {
+            MessageUtil.log(Level.SEVERE, "Unable to compact the economy journal: " + ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory Economy implementation, used as a backup in case no other economy plugin is loaded.
+ * Balances are stored as whole cents in one atomic counter per account, so deposits and
+ * withdrawals are lock-free and safe to call from any thread. Balances are not saved;
+ * they are lost when the server stops. Worlds are ignored and banks are not supported.
+ *
+ * @author Foulest
+ */
+public class MemoryEconomy extends AbstractEconomy {
+
+    private static final int FRACTIONAL_DIGITS = 2;
+
+    /**
+     * Returned by {@link #withdrawMinor} and {@link #depositMinor} when the balance doesn't allow the change.
+     * No balance can reach this value, since balances never go below zero.
+     */
+    protected static final long REJECTED = Long.MIN_VALUE;
+
+    private final Map<UUID, AtomicLong> accounts = new ConcurrentHashMap<>();
+    private final long startingBalance;
+    private final @NotNull String currencySingular;
+    private final @NotNull String currencyPlural;
+
+    /**
+     * Creates a new in-memory economy.
+     *
+     * @param startingBalance  The balance of newly created accounts.
+     * @param currencySingular The singular name of the currency.
+     * @param currencyPlural   The plural name of the currency.
+     */
+    public MemoryEconomy(double startingBalance, @NotNull String currencySingular, @NotNull String currencyPlural) {
+        this.startingBalance = Math.max(0L, MinorUnits.toMinor(startingBalance, FRACTIONAL_DIGITS));
+        this.currencySingular = currencySingular;
+        this.currencyPlural = currencyPlural;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "VaultMemoryEconomy";
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return false;
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return FRACTIONAL_DIGITS;
+    }
+
+    @Override
+    public @NotNull String format(double amount) {
+        @NotNull String currency = amount == 1.0 ? currencySingular : currencyPlural;
+        return String.format("%,.2f %s", amount, currency);
+    }
+
+    @Override
+    public @NotNull String currencyNamePlural() {
+        return currencyPlural;
+    }
+
+    @Override
+    public @NotNull String currencyNameSingular() {
+        return currencySingular;
+    }
+
+    @Override
+    public boolean hasAccount(@NotNull UUID uuid) {
+        return accounts.containsKey(uuid);
+    }
+
+    @Override
+    public boolean hasAccount(@NotNull UUID uuid, String world) {
+        return hasAccount(uuid);
+    }
+
+    @Override
+    public double getBalance(@NotNull UUID uuid) {
+        return fromMinorUnits(getBalanceMinor(uuid));
+    }
+
+    @Override
+    public long getBalanceMinor(@NotNull UUID uuid) {
+        @Nullable AtomicLong account = accounts.get(uuid);
+        return account == null ? 0L : account.get();
+    }
+
+    @Override
+    public long getBalanceMinor(@NotNull UUID uuid, String world) {
+        return getBalanceMinor(uuid);
+    }
+
+    @Override
+    public double getBalance(@NotNull UUID uuid, String world) {
+        return getBalance(uuid);
+    }
+
+    @Override
+    public boolean has(@NotNull UUID uuid, double amount) {
+        return hasMinor(uuid, toMinorUnits(amount));
+    }
+
+    @Override
+    public boolean hasMinor(@NotNull UUID uuid, long minorUnits) {
+        @Nullable AtomicLong account = accounts.get(uuid);
+        return account != null && account.get() >= minorUnits;
+    }
+
+    @Override
+    public boolean hasMinor(@NotNull UUID uuid, String world, long minorUnits) {
+        return hasMinor(uuid, minorUnits);
+    }
+
+    @Override
+    public boolean has(@NotNull UUID uuid, String world, double amount) {
+        return has(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse withdrawPlayer(@NotNull UUID uuid, double amount) {
+        if (!isValidAmount(amount)) {
+            return new EconomyResponse(0, getBalance(uuid), EconomyResponse.ResponseType.FAILURE, "Cannot withdraw negative or invalid funds.");
+        }
+        return withdrawPlayerMinor(uuid, toMinorUnits(amount));
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(@NotNull UUID uuid, double amount) {
+        if (!isValidAmount(amount)) {
+            return Double.NaN;
+        }
+
+        long balance = withdrawMinor(uuid, toMinorUnits(amount));
+        return balance == REJECTED ? Double.NaN : fromMinorUnits(balance);
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(@NotNull UUID uuid, String world, double amount) {
+        return withdrawPlayerForBalance(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse withdrawPlayerMinor(@NotNull UUID uuid, long minorUnits) {
+        if (minorUnits < 0) {
+            return new EconomyResponse(0, getBalance(uuid), EconomyResponse.ResponseType.FAILURE, "Cannot withdraw negative funds.");
+        }
+
+        long balance = withdrawMinor(uuid, minorUnits);
+
+        if (balance == REJECTED) {
+            return new EconomyResponse(0, getBalance(uuid), EconomyResponse.ResponseType.FAILURE, "Insufficient funds.");
+        }
+        return new EconomyResponse(fromMinorUnits(minorUnits), fromMinorUnits(balance), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public @NotNull EconomyResponse withdrawPlayerMinor(@NotNull UUID uuid, String world, long minorUnits) {
+        return withdrawPlayerMinor(uuid, minorUnits);
+    }
+
+    @Override
+    public @NotNull EconomyResponse withdrawPlayer(@NotNull UUID uuid, String world, double amount) {
+        return withdrawPlayer(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse depositPlayer(@NotNull UUID uuid, double amount) {
+        if (!isValidAmount(amount)) {
+            return new EconomyResponse(0, getBalance(uuid), EconomyResponse.ResponseType.FAILURE, "Cannot deposit negative or invalid funds.");
+        }
+        return depositPlayerMinor(uuid, toMinorUnits(amount));
+    }
+
+    @Override
+    public double depositPlayerForBalance(@NotNull UUID uuid, double amount) {
+        if (!isValidAmount(amount)) {
+            return Double.NaN;
+        }
+
+        long balance = depositMinor(uuid, toMinorUnits(amount));
+        return balance == REJECTED ? Double.NaN : fromMinorUnits(balance);
+    }
+
+    @Override
+    public double depositPlayerForBalance(@NotNull UUID uuid, String world, double amount) {
+        return depositPlayerForBalance(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse depositPlayerMinor(@NotNull UUID uuid, long minorUnits) {
+        if (minorUnits < 0) {
+            return new EconomyResponse(0, getBalance(uuid), EconomyResponse.ResponseType.FAILURE, "Cannot deposit negative funds.");
+        }
+
+        long balance = depositMinor(uuid, minorUnits);
+
+        if (balance == REJECTED) {
+            return new EconomyResponse(0, getBalance(uuid), EconomyResponse.ResponseType.FAILURE, "Balance limit reached.");
+        }
+        return new EconomyResponse(fromMinorUnits(minorUnits), fromMinorUnits(balance), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public @NotNull EconomyResponse depositPlayerMinor(@NotNull UUID uuid, String world, long minorUnits) {
+        return depositPlayerMinor(uuid, minorUnits);
+    }
+
+    @Override
+    public @NotNull EconomyResponse depositPlayer(@NotNull UUID uuid, String world, double amount) {
+        return depositPlayer(uuid, amount);
+    }
+
+    @Override
+    public @NotNull EconomyResponse createBank(String name, UUID uuid) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse deleteBank(String name) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankBalance(String name) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankHas(String name, double amount) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankWithdraw(String name, double amount) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse bankDeposit(String name, double amount) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse isBankOwner(String name, UUID uuid) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull EconomyResponse isBankMember(String name, UUID uuid) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public @NotNull List<String> getBanks() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid) {
+        return accounts.putIfAbsent(uuid, new AtomicLong(startingBalance)) == null;
+    }
+
+    @Override
+    public boolean createPlayerAccount(@NotNull UUID uuid, String world) {
+        return createPlayerAccount(uuid);
+    }
+
+    /**
+     * Gets the live map of all accounts, holding each balance in cents.
+     *
+     * @return The accounts, keyed by player UUID.
+     */
+    protected @NotNull Map<UUID, AtomicLong> getAccounts() {
+        return accounts;
+    }
+
+    /**
+     * Gets the balance of newly created accounts.
+     *
+     * @return The starting balance in cents.
+     */
+    protected long getStartingBalanceMinor() {
+        return startingBalance;
+    }
+
+    /**
+     * Withdraws an amount from a player's balance.
+     * Every withdrawal made through this economy ends up here.
+     *
+     * @param uuid       The UUID of the player.
+     * @param minorUnits The amount in cents; must not be negative.
+     * @return The new balance in cents, or {@link #REJECTED} if the balance is too low.
+     */
+    protected long withdrawMinor(@NotNull UUID uuid, long minorUnits) {
+        @NotNull AtomicLong account = getAccount(uuid);
+        long balance;
+
+        do {
+            balance = account.get();
+
+            if (balance < minorUnits) {
+                return REJECTED;
+            }
+        } while (!account.compareAndSet(balance, balance - minorUnits));
+        return balance - minorUnits;
+    }
+
+    /**
+     * Deposits an amount to a player's balance.
+     * Every deposit made through this economy ends up here.
+     *
+     * @param uuid       The UUID of the player.
+     * @param minorUnits The amount in cents; must not be negative.
+     * @return The new balance in cents, or {@link #REJECTED} if the balance would overflow.
+     */
+    protected long depositMinor(@NotNull UUID uuid, long minorUnits) {
+        @NotNull AtomicLong account = getAccount(uuid);
+        long balance;
+
+        do {
+            balance = account.get();
+
+            if (balance > Long.MAX_VALUE - minorUnits) {
+                return REJECTED;
+            }
+        } while (!account.compareAndSet(balance, balance + minorUnits));
+        return balance + minorUnits;
+    }
+
+    /**
+     * Gets the account of a player, creating it with the starting balance if it doesn't exist.
+     *
+     * @param uuid The UUID of the player.
+     * @return The player's balance in cents.
+     */
+    private @NotNull AtomicLong getAccount(@NotNull UUID uuid) {
+        @Nullable AtomicLong account = accounts.get(uuid);
+
+        if (account == null) {
+            account = accounts.computeIfAbsent(uuid, key -> new AtomicLong(startingBalance));
+        }
+        return account;
+    }
+
+    /**
+     * Checks if an amount can be deposited or withdrawn.
+     *
+     * @param amount The amount to check.
+     * @return Whether the amount is finite and not negative.
+     */
+    private static boolean isValidAmount(double amount) {
+        return amount >= 0 && !Double.isInfinite(amount);
+    }
+}
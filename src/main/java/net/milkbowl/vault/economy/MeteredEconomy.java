@@ -0,0 +1,1170 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import lombok.Getter;
+import net.milkbowl.vault.util.ProviderMetrics;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Economy decorator that records the call count and latency of every method
+ * forwarded to the decorated provider.
+ *
+ * @author Foulest
+ */
+public class MeteredEconomy extends EconomyDecorator {
+
+    @Getter
+    private final @NotNull ProviderMetrics metrics;
+
+    /**
+     * Creates a new metered Economy.
+     *
+     * @param delegate The Economy provider to measure.
+     */
+    public MeteredEconomy(@NotNull Economy delegate) {
+        super(delegate);
+        metrics = new ProviderMetrics(delegate.getName());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        long start = System.nanoTime();
+
+        try {
+            return super.isEnabled();
+        } finally {
+            metrics.record("isEnabled()", start);
+        }
+    }
+
+    @Override
+    public String getName() {
+        long start = System.nanoTime();
+
+        try {
+            return super.getName();
+        } finally {
+            metrics.record("getName()", start);
+        }
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasBankSupport();
+        } finally {
+            metrics.record("hasBankSupport()", start);
+        }
+    }
+
+    @Override
+    public int fractionalDigits() {
+        long start = System.nanoTime();
+
+        try {
+            return super.fractionalDigits();
+        } finally {
+            metrics.record("fractionalDigits()", start);
+        }
+    }
+
+    @Override
+    public String format(double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.format(amount);
+        } finally {
+            metrics.record("format(double)", start);
+        }
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        long start = System.nanoTime();
+
+        try {
+            return super.currencyNamePlural();
+        } finally {
+            metrics.record("currencyNamePlural()", start);
+        }
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        long start = System.nanoTime();
+
+        try {
+            return super.currencyNameSingular();
+        } finally {
+            metrics.record("currencyNameSingular()", start);
+        }
+    }
+
+    @Override
+    public boolean hasAccount(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(uuid);
+        } finally {
+            metrics.record("hasAccount(UUID)", start);
+        }
+    }
+
+    @Override
+    public @NotNull Map<UUID, Boolean> hasAccounts(@NotNull Collection<UUID> uuids) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccounts(uuids);
+        } finally {
+            metrics.record("hasAccounts(Collection<UUID>)", start);
+        }
+    }
+
+    @Override
+    public boolean hasAccount(UUID uuid, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(uuid, world);
+        } finally {
+            metrics.record("hasAccount(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public double getBalance(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(uuid);
+        } finally {
+            metrics.record("getBalance(UUID)", start);
+        }
+    }
+
+    @Override
+    public @NotNull Map<UUID, Double> getBalances(@NotNull Collection<UUID> uuids) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalances(uuids);
+        } finally {
+            metrics.record("getBalances(Collection<UUID>)", start);
+        }
+    }
+
+    @Override
+    public double getBalance(UUID uuid, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(uuid, world);
+        } finally {
+            metrics.record("getBalance(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean has(UUID uuid, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(uuid, amount);
+        } finally {
+            metrics.record("has(UUID, double)", start);
+        }
+    }
+
+    @Override
+    public boolean has(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(uuid, world, amount);
+        } finally {
+            metrics.record("has(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(UUID uuid, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(uuid, amount);
+        } finally {
+            metrics.record("withdrawPlayer(UUID, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(UUID uuid, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("withdrawPlayerAsync(UUID, double)", start, super.withdrawPlayerAsync(uuid, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(uuid, world, amount);
+        } finally {
+            metrics.record("withdrawPlayer(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> withdrawPlayerAsync(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("withdrawPlayerAsync(UUID, String, double)", start, super.withdrawPlayerAsync(uuid, world, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(UUID uuid, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(uuid, amount);
+        } finally {
+            metrics.record("depositPlayer(UUID, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(UUID uuid, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("depositPlayerAsync(UUID, double)", start, super.depositPlayerAsync(uuid, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(uuid, world, amount);
+        } finally {
+            metrics.record("depositPlayer(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> depositPlayerAsync(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("depositPlayerAsync(UUID, String, double)", start, super.depositPlayerAsync(uuid, world, amount));
+    }
+
+    @Override
+    public long getBalanceMinor(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalanceMinor(uuid);
+        } finally {
+            metrics.record("getBalanceMinor(UUID)", start);
+        }
+    }
+
+    @Override
+    public long getBalanceMinor(UUID uuid, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalanceMinor(uuid, world);
+        } finally {
+            metrics.record("getBalanceMinor(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean hasMinor(UUID uuid, long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasMinor(uuid, minorUnits);
+        } finally {
+            metrics.record("hasMinor(UUID, long)", start);
+        }
+    }
+
+    @Override
+    public boolean hasMinor(UUID uuid, String world, long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasMinor(uuid, world, minorUnits);
+        } finally {
+            metrics.record("hasMinor(UUID, String, long)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayerMinor(UUID uuid, long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayerMinor(uuid, minorUnits);
+        } finally {
+            metrics.record("withdrawPlayerMinor(UUID, long)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayerMinor(UUID uuid, String world, long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayerMinor(uuid, world, minorUnits);
+        } finally {
+            metrics.record("withdrawPlayerMinor(UUID, String, long)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayerMinor(UUID uuid, long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayerMinor(uuid, minorUnits);
+        } finally {
+            metrics.record("depositPlayerMinor(UUID, long)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayerMinor(UUID uuid, String world, long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayerMinor(uuid, world, minorUnits);
+        } finally {
+            metrics.record("depositPlayerMinor(UUID, String, long)", start);
+        }
+    }
+    @Override
+    public double withdrawPlayerForBalance(UUID uuid, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayerForBalance(uuid, amount);
+        } finally {
+            metrics.record("withdrawPlayerForBalance(UUID, double)", start);
+        }
+    }
+
+    @Override
+    public double withdrawPlayerForBalance(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayerForBalance(uuid, world, amount);
+        } finally {
+            metrics.record("withdrawPlayerForBalance(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public double depositPlayerForBalance(UUID uuid, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayerForBalance(uuid, amount);
+        } finally {
+            metrics.record("depositPlayerForBalance(UUID, double)", start);
+        }
+    }
+
+    @Override
+    public double depositPlayerForBalance(UUID uuid, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayerForBalance(uuid, world, amount);
+        } finally {
+            metrics.record("depositPlayerForBalance(UUID, String, double)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse transfer(UUID from, UUID to, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.transfer(from, to, amount);
+        } finally {
+            metrics.record("transfer(UUID, UUID, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> transferAsync(UUID from, UUID to, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("transferAsync(UUID, UUID, double)", start, super.transferAsync(from, to, amount));
+    }
+
+
+    @Override
+    public @NotNull List<EconomyResponse> submit(@NotNull EconomyTransaction transaction) {
+        long start = System.nanoTime();
+
+        try {
+            return super.submit(transaction);
+        } finally {
+            metrics.record("submit(EconomyTransaction)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<EconomyResponse>> submitAsync(@NotNull EconomyTransaction transaction) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("submitAsync(EconomyTransaction)", start, super.submitAsync(transaction));
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createBank(name, uuid);
+        } finally {
+            metrics.record("createBank(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> createBankAsync(String name, UUID uuid) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("createBankAsync(String, UUID)", start, super.createBankAsync(name, uuid));
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        long start = System.nanoTime();
+
+        try {
+            return super.deleteBank(name);
+        } finally {
+            metrics.record("deleteBank(String)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> deleteBankAsync(String name) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("deleteBankAsync(String)", start, super.deleteBankAsync(name));
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        long start = System.nanoTime();
+
+        try {
+            return super.bankBalance(name);
+        } finally {
+            metrics.record("bankBalance(String)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.bankHas(name, amount);
+        } finally {
+            metrics.record("bankHas(String, double)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.bankWithdraw(name, amount);
+        } finally {
+            metrics.record("bankWithdraw(String, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> bankWithdrawAsync(String name, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("bankWithdrawAsync(String, double)", start, super.bankWithdrawAsync(name, amount));
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.bankDeposit(name, amount);
+        } finally {
+            metrics.record("bankDeposit(String, double)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<EconomyResponse> bankDepositAsync(String name, double amount) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("bankDepositAsync(String, double)", start, super.bankDepositAsync(name, amount));
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankOwner(name, uuid);
+        } finally {
+            metrics.record("isBankOwner(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankMember(name, uuid);
+        } finally {
+            metrics.record("isBankMember(String, UUID)", start);
+        }
+    }
+
+    @Override
+    public List<String> getBanks() {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBanks();
+        } finally {
+            metrics.record("getBanks()", start);
+        }
+    }
+
+    @Override
+    public boolean createPlayerAccount(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(uuid);
+        } finally {
+            metrics.record("createPlayerAccount(UUID)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(UUID uuid) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("createPlayerAccountAsync(UUID)", start, super.createPlayerAccountAsync(uuid));
+    }
+
+    @Override
+    public boolean createPlayerAccount(UUID uuid, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(uuid, world);
+        } finally {
+            metrics.record("createPlayerAccount(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> createPlayerAccountAsync(UUID uuid, String world) {
+        long start = System.nanoTime();
+        return metrics.recordAsync("createPlayerAccountAsync(UUID, String)", start, super.createPlayerAccountAsync(uuid, world));
+    }
+
+    @Override
+    public long toMinorUnits(double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.toMinorUnits(amount);
+        } finally {
+            metrics.record("toMinorUnits(double)", start);
+        }
+    }
+
+    @Override
+    public double fromMinorUnits(long minorUnits) {
+        long start = System.nanoTime();
+
+        try {
+            return super.fromMinorUnits(minorUnits);
+        } finally {
+            metrics.record("fromMinorUnits(long)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(player);
+        } finally {
+            metrics.record("hasAccount(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(player);
+        } finally {
+            metrics.record("hasAccount(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(playerName);
+        } finally {
+            metrics.record("hasAccount(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull Player player, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(player, world);
+        } finally {
+            metrics.record("hasAccount(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull OfflinePlayer player, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(player, world);
+        } finally {
+            metrics.record("hasAccount(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasAccount(@NotNull String playerName, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasAccount(playerName, world);
+        } finally {
+            metrics.record("hasAccount(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(player);
+        } finally {
+            metrics.record("getBalance(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(player);
+        } finally {
+            metrics.record("getBalance(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(playerName);
+        } finally {
+            metrics.record("getBalance(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull Player player, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(player, world);
+        } finally {
+            metrics.record("getBalance(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull OfflinePlayer player, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(player, world);
+        } finally {
+            metrics.record("getBalance(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public double getBalance(@NotNull String playerName, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getBalance(playerName, world);
+        } finally {
+            metrics.record("getBalance(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull Player player, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(player, amount);
+        } finally {
+            metrics.record("has(Player, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(player, amount);
+        } finally {
+            metrics.record("has(OfflinePlayer, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull String playerName, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(playerName, amount);
+        } finally {
+            metrics.record("has(String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull Player player, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(player, world, amount);
+        } finally {
+            metrics.record("has(Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull OfflinePlayer player, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(player, world, amount);
+        } finally {
+            metrics.record("has(OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull String playerName, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(playerName, world, amount);
+        } finally {
+            metrics.record("has(String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull Player player, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(player, amount);
+        } finally {
+            metrics.record("withdrawPlayer(Player, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(player, amount);
+        } finally {
+            metrics.record("withdrawPlayer(OfflinePlayer, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull String playerName, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(playerName, amount);
+        } finally {
+            metrics.record("withdrawPlayer(String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull Player player, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(player, world, amount);
+        } finally {
+            metrics.record("withdrawPlayer(Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull OfflinePlayer player, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(player, world, amount);
+        } finally {
+            metrics.record("withdrawPlayer(OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse withdrawPlayer(@NotNull String playerName, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.withdrawPlayer(playerName, world, amount);
+        } finally {
+            metrics.record("withdrawPlayer(String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull Player player, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(player, amount);
+        } finally {
+            metrics.record("depositPlayer(Player, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(player, amount);
+        } finally {
+            metrics.record("depositPlayer(OfflinePlayer, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull String playerName, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(playerName, amount);
+        } finally {
+            metrics.record("depositPlayer(String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull Player player, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(player, world, amount);
+        } finally {
+            metrics.record("depositPlayer(Player, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull OfflinePlayer player, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(player, world, amount);
+        } finally {
+            metrics.record("depositPlayer(OfflinePlayer, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse depositPlayer(@NotNull String playerName, String world, double amount) {
+        long start = System.nanoTime();
+
+        try {
+            return super.depositPlayer(playerName, world, amount);
+        } finally {
+            metrics.record("depositPlayer(String, String, double)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse createBank(String name, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createBank(name, player);
+        } finally {
+            metrics.record("createBank(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse createBank(String name, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createBank(name, player);
+        } finally {
+            metrics.record("createBank(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse createBank(String name, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createBank(name, playerName);
+        } finally {
+            metrics.record("createBank(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankOwner(String name, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankOwner(name, player);
+        } finally {
+            metrics.record("isBankOwner(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankOwner(String name, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankOwner(name, player);
+        } finally {
+            metrics.record("isBankOwner(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankOwner(String name, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankOwner(name, playerName);
+        } finally {
+            metrics.record("isBankOwner(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankMember(String name, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankMember(name, player);
+        } finally {
+            metrics.record("isBankMember(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankMember(String name, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankMember(name, player);
+        } finally {
+            metrics.record("isBankMember(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public EconomyResponse isBankMember(String name, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.isBankMember(name, playerName);
+        } finally {
+            metrics.record("isBankMember(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(player);
+        } finally {
+            metrics.record("createPlayerAccount(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(player);
+        } finally {
+            metrics.record("createPlayerAccount(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(playerName);
+        } finally {
+            metrics.record("createPlayerAccount(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull Player player, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(player, world);
+        } finally {
+            metrics.record("createPlayerAccount(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull OfflinePlayer player, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(player, world);
+        } finally {
+            metrics.record("createPlayerAccount(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean createPlayerAccount(@NotNull String playerName, String world) {
+        long start = System.nanoTime();
+
+        try {
+            return super.createPlayerAccount(playerName, world);
+        } finally {
+            metrics.record("createPlayerAccount(String, String)", start);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.economy;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class for converting between decimal amounts and
+ * whole minor units (e.g. cents) of a currency.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+public class MinorUnits {
+
+    // Digits used when an economy doesn't round its amounts.
+    private final int DEFAULT_DIGITS = 2;
+
+    private final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+
+    /**
+     * Gets the number of minor units in one major unit.
+     *
+     * @param fractionalDigits The fractional digits of the economy; negative if it doesn't round.
+     * @return The scale, e.g. 100 for two fractional digits.
+     */
+    public long scale(int fractionalDigits) {
+        int digits = fractionalDigits < 0 ? DEFAULT_DIGITS : Math.min(fractionalDigits, POWERS_OF_TEN.length - 1);
+        return POWERS_OF_TEN[digits];
+    }
+
+    /**
+     * Converts a decimal amount to minor units, rounding half up.
+     *
+     * @param amount           The amount to convert.
+     * @param fractionalDigits The fractional digits of the economy; negative if it doesn't round.
+     * @return The amount in minor units.
+     */
+    public long toMinor(double amount, int fractionalDigits) {
+        return Math.round(amount * scale(fractionalDigits));
+    }
+
+    /**
+     * Converts an amount in minor units to a decimal amount.
+     *
+     * @param minorUnits       The amount in minor units.
+     * @param fractionalDigits The fractional digits of the economy; negative if it doesn't round.
+     * @return The decimal amount.
+     */
+    public double toMajor(long minorUnits, int fractionalDigits) {
+        return (double) minorUnits / scale(fractionalDigits);
+    }
+}
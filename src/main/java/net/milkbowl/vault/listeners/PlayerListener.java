@@ -0,0 +1,74 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.listeners;
+
+import lombok.AllArgsConstructor;
+import net.milkbowl.vault.permission.Permission;
+import net.milkbowl.vault.permission.SuperPerms;
+import net.milkbowl.vault.util.PlayerIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Listener that keeps the per-player state of Vault's
+ * providers and name index up to date.
+ *
+ * @author Foulest
+ */
+@AllArgsConstructor
+public class PlayerListener implements Listener {
+
+    private final @NotNull SuperPerms superPerms;
+
+    // Runs first, so name lookups made by other join handlers see the player's current name.
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
+        PlayerIndex.put(event.getPlayer());
+    }
+
+    // Runs first, before other plugins remove their attachments from the player.
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerQuitEarly(@NotNull PlayerQuitEvent event) {
+        superPerms.rememberPlayer(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        @NotNull UUID uuid = event.getPlayer().getUniqueId();
+        superPerms.invalidate(uuid);
+
+        for (@NotNull RegisteredServiceProvider<Permission> registration
+                : Bukkit.getServicesManager().getRegistrations(Permission.class)) {
+            registration.getProvider().releaseAttachment(uuid);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(@NotNull PlayerChangedWorldEvent event) {
+        superPerms.invalidate(event.getPlayer().getUniqueId());
+    }
+}
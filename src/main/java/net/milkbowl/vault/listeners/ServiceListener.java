@@ -0,0 +1,235 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.listeners;
+
+import net.milkbowl.vault.Vault;
+import net.milkbowl.vault.chat.CachedChat;
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.chat.MeteredChat;
+import net.milkbowl.vault.economy.CachedEconomy;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.MeteredEconomy;
+import net.milkbowl.vault.permission.CachedPermission;
+import net.milkbowl.vault.permission.MeteredPermission;
+import net.milkbowl.vault.permission.Permission;
+import net.milkbowl.vault.permission.TrackedPermission;
+import net.milkbowl.vault.util.MessageUtil;
+import net.milkbowl.vault.util.ServiceDecorator;
+import net.milkbowl.vault.util.Settings;
+import net.milkbowl.vault.util.VaultServices;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+
+/**
+ * Listener that keeps Vault's service decorators registered
+ * in front of the current primary service providers,
+ * and {@link VaultServices} pointing to the current providers.
+ *
+ * @author Foulest
+ */
+public class ServiceListener implements Listener {
+
+    // Set while this listener is (un)registering its own decorators,
+    // so the events fired by those changes are ignored.
+    private boolean updating;
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServiceRegister(@NotNull ServiceRegisterEvent event) {
+        @NotNull Class<?> service = event.getProvider().getService();
+        refresh(service);
+        VaultServices.refresh(service);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServiceUnregister(@NotNull ServiceUnregisterEvent event) {
+        @NotNull Class<?> service = event.getProvider().getService();
+        refresh(service);
+        VaultServices.refresh(service);
+    }
+
+    /**
+     * Refreshes the decorators and current providers of every service Vault provides.
+     */
+    public void refreshAll() {
+        refresh(Economy.class);
+        refresh(Permission.class);
+        refresh(Chat.class);
+        VaultServices.refreshAll();
+    }
+
+    /**
+     * Refreshes the decorator of the given service.
+     *
+     * @param service The service class that changed.
+     */
+    private void refresh(@NotNull Class<?> service) {
+        if (service == Economy.class) {
+            decorate(Economy.class, getEconomyDecorator());
+        } else if (service == Permission.class) {
+            decorate(Permission.class, getPermissionDecorator());
+        } else if (service == Chat.class) {
+            decorate(Chat.class, getChatDecorator());
+        }
+    }
+
+    /**
+     * Gets the function used to decorate the primary Economy provider.
+     *
+     * @return The decorating function, or null if no decorator is enabled.
+     */
+    private static @Nullable UnaryOperator<Economy> getEconomyDecorator() {
+        if (!Settings.metricsEnabled && !Settings.economyCacheEnabled) {
+            return null;
+        }
+
+        return economy -> {
+            @NotNull Economy decorated = economy;
+
+            if (Settings.metricsEnabled) {
+                decorated = new MeteredEconomy(decorated);
+            }
+
+            if (Settings.economyCacheEnabled) {
+                decorated = new CachedEconomy(decorated, Settings.economyCacheMaxSize, Settings.economyCacheTtlMillis);
+            }
+            return decorated;
+        };
+    }
+
+    /**
+     * Gets the function used to decorate the primary Permission provider.
+     *
+     * @return The decorating function, or null if no decorator is enabled.
+     */
+    private static @Nullable UnaryOperator<Permission> getPermissionDecorator() {
+        // The chat cache relies on a decorator recording group membership changes.
+        if (!Settings.metricsEnabled && !Settings.permissionCacheEnabled && !Settings.chatCacheEnabled) {
+            return null;
+        }
+
+        return permission -> {
+            @NotNull Permission decorated = permission;
+
+            if (Settings.metricsEnabled) {
+                decorated = new MeteredPermission(decorated);
+            }
+
+            if (Settings.permissionCacheEnabled) {
+                decorated = new CachedPermission(decorated, Settings.permissionCacheMaxPlayers,
+                        Settings.permissionCacheMaxNodes, Settings.permissionCacheTtlMillis);
+            }
+
+            if (decorated == permission) {
+                decorated = new TrackedPermission(decorated);
+            }
+            return decorated;
+        };
+    }
+
+    /**
+     * Gets the function used to decorate the primary Chat provider.
+     *
+     * @return The decorating function, or null if no decorator is enabled.
+     */
+    private static @Nullable UnaryOperator<Chat> getChatDecorator() {
+        if (!Settings.metricsEnabled && !Settings.chatCacheEnabled) {
+            return null;
+        }
+
+        return chat -> {
+            @NotNull Chat decorated = chat;
+
+            if (Settings.metricsEnabled) {
+                decorated = new MeteredChat(decorated);
+            }
+
+            if (Settings.chatCacheEnabled) {
+                decorated = new CachedChat(decorated, Settings.chatCacheMaxPlayers, Settings.chatCacheTtlMillis);
+            }
+            return decorated;
+        };
+    }
+
+    /**
+     * Registers a decorator in front of the highest priority provider of the given service.
+     * An existing decorator is replaced if the provider it wraps is no longer the primary one,
+     * and removed if there is no provider left to wrap.
+     *
+     * @param service   The service class to decorate.
+     * @param decorator The function used to decorate the provider.
+     * @param <T>       The service type.
+     */
+    private synchronized <T> void decorate(@NotNull Class<T> service, @Nullable UnaryOperator<T> decorator) {
+        @NotNull Vault vault = Vault.getInstance();
+
+        if (decorator == null || updating || !vault.isEnabled()) {
+            return;
+        }
+
+        @NotNull ServicesManager servicesManager = Bukkit.getServer().getServicesManager();
+        @Nullable RegisteredServiceProvider<T> current = null;
+        @Nullable RegisteredServiceProvider<T> primary = null;
+
+        // Registrations are sorted from highest to lowest priority.
+        for (@NotNull RegisteredServiceProvider<T> registration : servicesManager.getRegistrations(service)) {
+            boolean ours = registration.getPlugin() == vault
+                    && registration.getProvider() instanceof ServiceDecorator;
+
+            if (ours && current == null) {
+                current = registration;
+            } else if (!ours && primary == null) {
+                primary = registration;
+            }
+        }
+
+        if (current != null && primary != null
+                && ServiceDecorator.unwrap(current.getProvider()) == primary.getProvider()) {
+            return;
+        }
+
+        updating = true;
+
+        try {
+            if (current != null) {
+                servicesManager.unregister(service, current.getProvider());
+            }
+
+            if (primary != null) {
+                @NotNull T provider = primary.getProvider();
+                servicesManager.register(service, decorator.apply(provider), vault, ServicePriority.Highest);
+
+                @NotNull String providerName = provider.getClass().getSimpleName();
+                MessageUtil.log(Level.INFO, "Decorated " + service.getSimpleName() + " provider: " + providerName);
+            }
+        } finally {
+            updating = false;
+        }
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import net.milkbowl.vault.util.ExpiringCache;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caching layer in front of a Permission provider.
+ * Permission checks are memoized per player and node; each player's cache is
+ * bounded in size, and is invalidated whenever the player's permissions or
+ * groups are changed through this decorator.
+ *
+ * @author Foulest
+ */
+public class CachedPermission extends PermissionDecorator {
+
+    private final @NotNull ExpiringCache<UUID, ExpiringCache<String, Boolean>> players;
+    private final int maxNodes;
+    private final long ttlMillis;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cached Permission.
+     *
+     * @param delegate   The Permission provider to cache.
+     * @param maxPlayers The maximum number of players to cache.
+     * @param maxNodes   The maximum number of nodes to cache per player.
+     * @param ttlMillis  The time in milliseconds before a cached check expires.
+     */
+    public CachedPermission(@NotNull Permission delegate, int maxPlayers, int maxNodes, long ttlMillis) {
+        super(delegate);
+        players = new ExpiringCache<>(maxPlayers, Long.MAX_VALUE);
+        this.maxNodes = maxNodes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public boolean playerHas(@NotNull UUID uuid, @NotNull String permission) {
+        lookups.increment();
+        @NotNull ExpiringCache<String, Boolean> nodes = players.get(uuid, key -> new ExpiringCache<>(maxNodes, ttlMillis));
+
+        return nodes.get(permission, node -> {
+            misses.increment();
+            return getDelegate().playerHas(uuid, node);
+        });
+    }
+
+    @Override
+    public @NotNull BitSet playerHasEach(@NotNull UUID uuid, String @NotNull ... permissions) {
+        lookups.add(permissions.length);
+        @NotNull ExpiringCache<String, Boolean> nodes = players.get(uuid, key -> new ExpiringCache<>(maxNodes, ttlMillis));
+
+        // Checks every uncached node with a single call to the provider.
+        @NotNull Map<String, Boolean> results = nodes.getAll(Arrays.asList(permissions), missing -> {
+            misses.add(missing.size());
+            @NotNull BitSet loaded = getDelegate().playerHasEach(uuid, missing.toArray(new String[0]));
+            @NotNull Map<String, Boolean> values = new HashMap<>();
+
+            for (int i = 0; i < missing.size(); i++) {
+                values.put(missing.get(i), loaded.get(i));
+            }
+            return values;
+        });
+
+        @NotNull BitSet result = new BitSet(permissions.length);
+
+        for (int i = 0; i < permissions.length; i++) {
+            if (Boolean.TRUE.equals(results.get(permissions[i]))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean playerAdd(@NotNull UUID uuid, String permission) {
+        try {
+            return getDelegate().playerAdd(uuid, permission);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerRemove(@NotNull UUID uuid, String permission) {
+        try {
+            return getDelegate().playerRemove(uuid, permission);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull String permission) {
+        try {
+            return getDelegate().playerAddTransient(uuid, permission);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull String permission) {
+        try {
+            return getDelegate().playerAddTransient(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull String permission) {
+        try {
+            return getDelegate().playerRemoveTransient(uuid, permission);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull String permission) {
+        try {
+            return getDelegate().playerRemoveTransient(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        try {
+            return getDelegate().playerAddTransient(uuid, permissions);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        try {
+            return getDelegate().playerAddTransient(player, permissions);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        try {
+            return getDelegate().playerRemoveTransient(uuid, permissions);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        try {
+            return getDelegate().playerRemoveTransient(player, permissions);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean groupAdd(String group, String permission) {
+        try {
+            return getDelegate().groupAdd(group, permission);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean groupRemove(String group, String permission) {
+        try {
+            return getDelegate().groupRemove(group, permission);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean playerAddGroup(@NotNull UUID uuid, String group) {
+        try {
+            return super.playerAddGroup(uuid, group);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveGroup(@NotNull UUID uuid, String group) {
+        try {
+            return super.playerRemoveGroup(uuid, group);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull Player player, String permission) {
+        try {
+            return getDelegate().playerAdd(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull OfflinePlayer player, String permission) {
+        try {
+            return getDelegate().playerAdd(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull String playerName, String permission) {
+        boolean result = getDelegate().playerAdd(playerName, permission);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull Player player, String permission) {
+        try {
+            return getDelegate().playerAdd(world, player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull OfflinePlayer player, String permission) {
+        try {
+            return getDelegate().playerAdd(world, player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull String playerName, String permission) {
+        boolean result = getDelegate().playerAdd(world, playerName, permission);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull Player player, String permission) {
+        try {
+            return getDelegate().playerRemove(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull OfflinePlayer player, String permission) {
+        try {
+            return getDelegate().playerRemove(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull String playerName, String permission) {
+        boolean result = getDelegate().playerRemove(playerName, permission);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull Player player, String permission) {
+        try {
+            return getDelegate().playerRemove(world, player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull OfflinePlayer player, String permission) {
+        try {
+            return getDelegate().playerRemove(world, player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull String playerName, String permission) {
+        boolean result = getDelegate().playerRemove(world, playerName, permission);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull Player player, String group) {
+        try {
+            return super.playerAddGroup(player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull OfflinePlayer player, String group) {
+        try {
+            return super.playerAddGroup(player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull String playerName, String group) {
+        boolean result = super.playerAddGroup(playerName, group);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull Player player, String group) {
+        try {
+            return super.playerAddGroup(world, player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull OfflinePlayer player, String group) {
+        try {
+            return super.playerAddGroup(world, player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull String playerName, String group) {
+        boolean result = super.playerAddGroup(world, playerName, group);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull Player player, String group) {
+        try {
+            return super.playerRemoveGroup(player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull OfflinePlayer player, String group) {
+        try {
+            return super.playerRemoveGroup(player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull String playerName, String group) {
+        boolean result = super.playerRemoveGroup(playerName, group);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull Player player, String group) {
+        try {
+            return super.playerRemoveGroup(world, player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull OfflinePlayer player, String group) {
+        try {
+            return super.playerRemoveGroup(world, player, group);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull String playerName, String group) {
+        boolean result = super.playerRemoveGroup(world, playerName, group);
+
+        if (result) {
+            invalidateAll();
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached permission checks of a player.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        players.invalidate(uuid);
+    }
+
+    /**
+     * Removes all cached permission checks.
+     */
+    public void invalidateAll() {
+        players.invalidateAll();
+    }
+
+    /**
+     * Gets the number of permission checks served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return lookups.sum() - misses.sum();
+    }
+
+    /**
+     * Gets the number of permission checks forwarded to the provider.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of players evicted because the cache was full.
+     *
+     * @return The number of size-based evictions.
+     */
+    public long getEvictions() {
+        return players.getEvictions();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class for tracking changes to the group membership of players.
+ * A player's version changes whenever a group is added to or removed from them through
+ * a Vault decorator, so caches of their groups can tell whether they are still current.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+public class GroupVersions {
+
+    // Versions are never removed; a reset could make a stale entry look current again.
+    private final Map<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    // Added to every player's version, for changes whose player isn't known.
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Gets the group membership version of a player.
+     *
+     * @param uuid The UUID of the player.
+     * @return The player's version; 0 if their groups were never changed.
+     */
+    public long get(@NotNull UUID uuid) {
+        @Nullable AtomicLong version = versions.get(uuid);
+        return epoch.get() + (version == null ? 0L : version.get());
+    }
+
+    /**
+     * Marks the group membership of a player as changed.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public void increment(@NotNull UUID uuid) {
+        versions.computeIfAbsent(uuid, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Marks the group membership of every player as changed.
+     * Used when a group was changed by player name, as the provider may not
+     * have resolved the name to the player Vault would.
+     */
+    public void incrementAll() {
+        epoch.incrementAndGet();
+    }
+}
@@ -0,0 +1,998 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import lombok.Getter;
+import net.milkbowl.vault.util.ProviderMetrics;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Permission decorator that records the call count and latency of every method
+ * forwarded to the decorated provider.
+ *
+ * @author Foulest
+ */
+public class MeteredPermission extends PermissionDecorator {
+
+    @Getter
+    private final @NotNull ProviderMetrics metrics;
+
+    /**
+     * Creates a new metered Permission.
+     *
+     * @param delegate The Permission provider to measure.
+     */
+    public MeteredPermission(@NotNull Permission delegate) {
+        super(delegate);
+        metrics = new ProviderMetrics(delegate.getName());
+    }
+
+    @Override
+    public String getName() {
+        long start = System.nanoTime();
+
+        try {
+            return super.getName();
+        } finally {
+            metrics.record("getName()", start);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        long start = System.nanoTime();
+
+        try {
+            return super.isEnabled();
+        } finally {
+            metrics.record("isEnabled()", start);
+        }
+    }
+
+    @Override
+    public boolean hasSuperPermsCompat() {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasSuperPermsCompat();
+        } finally {
+            metrics.record("hasSuperPermsCompat()", start);
+        }
+    }
+
+    @Override
+    public boolean playerHas(UUID uuid, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(uuid, permission);
+        } finally {
+            metrics.record("playerHas(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public @NotNull BitSet playerHasEach(UUID uuid, String @NotNull ... permissions) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHasEach(uuid, permissions);
+        } finally {
+            metrics.record("playerHasEach(UUID, String[])", start);
+        }
+    }
+
+    @Override
+    public boolean playerAdd(UUID uuid, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(uuid, permission);
+        } finally {
+            metrics.record("playerAdd(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerRemove(UUID uuid, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(uuid, permission);
+        } finally {
+            metrics.record("playerRemove(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddTransient(uuid, permission);
+        } finally {
+            metrics.record("playerAddTransient(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddTransient(player, permission);
+        } finally {
+            metrics.record("playerAddTransient(Player, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveTransient(uuid, permission);
+        } finally {
+            metrics.record("playerRemoveTransient(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveTransient(player, permission);
+        } finally {
+            metrics.record("playerRemoveTransient(Player, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddTransient(uuid, permissions);
+        } finally {
+            metrics.record("playerAddTransient(UUID, Collection)", start);
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddTransient(player, permissions);
+        } finally {
+            metrics.record("playerAddTransient(Player, Collection)", start);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveTransient(uuid, permissions);
+        } finally {
+            metrics.record("playerRemoveTransient(UUID, Collection)", start);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveTransient(player, permissions);
+        } finally {
+            metrics.record("playerRemoveTransient(Player, Collection)", start);
+        }
+    }
+
+    @Override
+    public boolean groupHas(String group, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.groupHas(group, permission);
+        } finally {
+            metrics.record("groupHas(String, String)", start);
+        }
+    }
+
+    @Override
+    public boolean groupAdd(String group, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.groupAdd(group, permission);
+        } finally {
+            metrics.record("groupAdd(String, String)", start);
+        }
+    }
+
+    @Override
+    public boolean groupRemove(String group, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.groupRemove(group, permission);
+        } finally {
+            metrics.record("groupRemove(String, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerInGroup(UUID uuid, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(uuid, group);
+        } finally {
+            metrics.record("playerInGroup(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerAddGroup(UUID uuid, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(uuid, group);
+        } finally {
+            metrics.record("playerAddGroup(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveGroup(UUID uuid, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(uuid, group);
+        } finally {
+            metrics.record("playerRemoveGroup(UUID, String)", start);
+        }
+    }
+
+    @Override
+    public String[] getPlayerGroups(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(uuid);
+        } finally {
+            metrics.record("getPlayerGroups(UUID)", start);
+        }
+    }
+
+    @Override
+    public String getPrimaryGroup(UUID uuid) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(uuid);
+        } finally {
+            metrics.record("getPrimaryGroup(UUID)", start);
+        }
+    }
+
+    @Override
+    public String[] getGroups() {
+        long start = System.nanoTime();
+
+        try {
+            return super.getGroups();
+        } finally {
+            metrics.record("getGroups()", start);
+        }
+    }
+
+    @Override
+    public boolean hasGroupSupport() {
+        long start = System.nanoTime();
+
+        try {
+            return super.hasGroupSupport();
+        } finally {
+            metrics.record("hasGroupSupport()", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(UUID uuid, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(uuid, permission);
+        } finally {
+            metrics.record("has(UUID, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull CommandSender sender, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(sender, permission);
+        } finally {
+            metrics.record("has(CommandSender, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(player, permission);
+        } finally {
+            metrics.record("has(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(player, permission);
+        } finally {
+            metrics.record("has(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(playerName, permission);
+        } finally {
+            metrics.record("has(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(String world, @NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(world, player, permission);
+        } finally {
+            metrics.record("has(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(String world, @NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(world, player, permission);
+        } finally {
+            metrics.record("has(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(String world, @NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.has(world, playerName, permission);
+        } finally {
+            metrics.record("has(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(@NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(player, permission);
+        } finally {
+            metrics.record("playerHas(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(@NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(player, permission);
+        } finally {
+            metrics.record("playerHas(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(@NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(playerName, permission);
+        } finally {
+            metrics.record("playerHas(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(String world, @NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(world, player, permission);
+        } finally {
+            metrics.record("playerHas(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(String world, @NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(world, player, permission);
+        } finally {
+            metrics.record("playerHas(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(String world, @NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerHas(world, playerName, permission);
+        } finally {
+            metrics.record("playerHas(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(player, permission);
+        } finally {
+            metrics.record("playerAdd(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(player, permission);
+        } finally {
+            metrics.record("playerAdd(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(playerName, permission);
+        } finally {
+            metrics.record("playerAdd(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(world, player, permission);
+        } finally {
+            metrics.record("playerAdd(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(world, player, permission);
+        } finally {
+            metrics.record("playerAdd(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAdd(world, playerName, permission);
+        } finally {
+            metrics.record("playerAdd(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(player, permission);
+        } finally {
+            metrics.record("playerRemove(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(player, permission);
+        } finally {
+            metrics.record("playerRemove(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(playerName, permission);
+        } finally {
+            metrics.record("playerRemove(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull Player player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(world, player, permission);
+        } finally {
+            metrics.record("playerRemove(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull OfflinePlayer player, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(world, player, permission);
+        } finally {
+            metrics.record("playerRemove(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull String playerName, String permission) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemove(world, playerName, permission);
+        } finally {
+            metrics.record("playerRemove(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(player, group);
+        } finally {
+            metrics.record("playerInGroup(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(player, group);
+        } finally {
+            metrics.record("playerInGroup(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(playerName, group);
+        } finally {
+            metrics.record("playerInGroup(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(world, player, group);
+        } finally {
+            metrics.record("playerInGroup(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(world, player, group);
+        } finally {
+            metrics.record("playerInGroup(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerInGroup(world, playerName, group);
+        } finally {
+            metrics.record("playerInGroup(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(player, group);
+        } finally {
+            metrics.record("playerAddGroup(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(player, group);
+        } finally {
+            metrics.record("playerAddGroup(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(playerName, group);
+        } finally {
+            metrics.record("playerAddGroup(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(world, player, group);
+        } finally {
+            metrics.record("playerAddGroup(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(world, player, group);
+        } finally {
+            metrics.record("playerAddGroup(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerAddGroup(world, playerName, group);
+        } finally {
+            metrics.record("playerAddGroup(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(player, group);
+        } finally {
+            metrics.record("playerRemoveGroup(Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(player, group);
+        } finally {
+            metrics.record("playerRemoveGroup(OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(playerName, group);
+        } finally {
+            metrics.record("playerRemoveGroup(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull Player player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(world, player, group);
+        } finally {
+            metrics.record("playerRemoveGroup(String, Player, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull OfflinePlayer player, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(world, player, group);
+        } finally {
+            metrics.record("playerRemoveGroup(String, OfflinePlayer, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull String playerName, String group) {
+        long start = System.nanoTime();
+
+        try {
+            return super.playerRemoveGroup(world, playerName, group);
+        } finally {
+            metrics.record("playerRemoveGroup(String, String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(player);
+        } finally {
+            metrics.record("getPlayerGroups(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(player);
+        } finally {
+            metrics.record("getPlayerGroups(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(playerName);
+        } finally {
+            metrics.record("getPlayerGroups(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(world, player);
+        } finally {
+            metrics.record("getPlayerGroups(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(world, player);
+        } finally {
+            metrics.record("getPlayerGroups(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPlayerGroups(world, playerName);
+        } finally {
+            metrics.record("getPlayerGroups(String, String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(player);
+        } finally {
+            metrics.record("getPrimaryGroup(Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(player);
+        } finally {
+            metrics.record("getPrimaryGroup(OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(playerName);
+        } finally {
+            metrics.record("getPrimaryGroup(String)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull Player player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(world, player);
+        } finally {
+            metrics.record("getPrimaryGroup(String, Player)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(world, player);
+        } finally {
+            metrics.record("getPrimaryGroup(String, OfflinePlayer)", start);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull String playerName) {
+        long start = System.nanoTime();
+
+        try {
+            return super.getPrimaryGroup(world, playerName);
+        } finally {
+            metrics.record("getPrimaryGroup(String, String)", start);
+        }
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import net.milkbowl.vault.util.MessageUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+
+/**
+ * Memory-mapped store of the last known permissions of players, used by
+ * {@link SuperPerms} to answer permission checks for offline players.
+ * <p>
+ * The file holds a fixed number of fixed-size slots, one per player. Each slot
+ * holds the player's UUID, when the snapshot was taken, whether they were an
+ * operator, and a sorted array of 64-bit node hashes with the node's value in
+ * the lowest bit. A check is a handful of binary searches in the player's slot:
+ * one for the node itself, and one per wildcard above it.
+ * <p>
+ * Once the store is full, the slot of the player seen least recently is reused.
+ *
+ * @author Foulest
+ */
+public class OfflinePermissionStore implements Closeable {
+
+    // Flags returned by lookup.
+    static final int ABSENT = -1;
+    static final int SET = 1;
+    static final int VALUE = 2;
+    static final int OP = 4;
+
+    private static final long MAGIC = 0x5641554c54504d53L; // "VAULTPMS"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 32;
+    private static final int SLOT_HEADER_SIZE = 40;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int maxPlayers;
+    private final int maxNodes;
+    private final int slotSize;
+    private final @NotNull FileChannel channel;
+    private final @NotNull MappedByteBuffer buffer;
+
+    // Slot of each stored player, from least to most recently seen.
+    private final LinkedHashMap<UUID, Integer> slots = new LinkedHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Opens the store, creating the file if it doesn't exist. An existing file
+     * with a different layout is discarded.
+     *
+     * @param file       The file to store the snapshots in.
+     * @param maxPlayers The maximum number of players to keep.
+     * @param maxNodes   The maximum number of nodes kept per player.
+     * @throws IOException If the file can't be opened.
+     */
+    public OfflinePermissionStore(@NotNull File file, int maxPlayers, int maxNodes) throws IOException {
+        this.maxPlayers = maxPlayers;
+        this.maxNodes = maxNodes;
+        slotSize = SLOT_HEADER_SIZE + maxNodes * 8;
+
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long size = FILE_HEADER_SIZE + (long) maxPlayers * slotSize;
+
+        if (size > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Offline permission store too large: " + size + " bytes");
+        }
+
+        boolean compatible = channel.size() == size && hasCompatibleHeader();
+
+        if (!compatible) {
+            channel.truncate(0);
+        }
+
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        if (compatible) {
+            loadSlots();
+        } else {
+            for (int slot = 0; slot < maxPlayers; slot++) {
+                freeSlots.add(slot);
+            }
+
+            buffer.putLong(0, MAGIC);
+            buffer.putInt(8, VERSION);
+            buffer.putInt(12, maxPlayers);
+            buffer.putInt(16, maxNodes);
+        }
+    }
+
+    /**
+     * Saves a snapshot of a player's permissions, replacing any previous one.
+     * If the player has more than {@code maxNodes} nodes, negated nodes are kept first,
+     * then the others in alphabetical order, and a warning is logged.
+     *
+     * @param uuid  The UUID of the player.
+     * @param op    Whether the player is an operator.
+     * @param nodes The player's permission nodes and their values.
+     */
+    public void put(@NotNull UUID uuid, boolean op, @NotNull Map<String, Boolean> nodes) {
+        @NotNull List<Map.Entry<String, Boolean>> entries = new ArrayList<>(nodes.entrySet());
+        int count = Math.min(entries.size(), maxNodes);
+
+        if (count < entries.size()) {
+            // A dropped negation would fall back to the node's default, which may grant it.
+            entries.sort(Map.Entry.<String, Boolean>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+            MessageUtil.log(Level.WARNING, "Saved only " + count + " of the " + entries.size()
+                    + " permission nodes of " + uuid + " for offline checks.");
+        }
+
+        long[] keys = new long[count];
+
+        for (int index = 0; index < count; index++) {
+            @NotNull Map.Entry<String, Boolean> entry = entries.get(index);
+            keys[index] = hash(entry.getKey(), entry.getKey().length()) & ~1L | (entry.getValue() ? 1L : 0L);
+        }
+
+        Arrays.sort(keys);
+        long seenAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+
+        try {
+            @Nullable Integer slot = slots.remove(uuid);
+
+            if (slot == null) {
+                slot = freeSlots.poll();
+            }
+
+            if (slot == null) {
+                // Reuses the slot of the player seen least recently.
+                @NotNull Iterator<Map.Entry<UUID, Integer>> eldest = slots.entrySet().iterator();
+                slot = eldest.next().getValue();
+                eldest.remove();
+            }
+
+            writeSlot(slot, uuid, op, seenAt, keys);
+            slots.put(uuid, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a node in a player's snapshot. The node itself takes precedence,
+     * then the most specific wildcard above it, such as {@code a.b.*}, {@code a.*} and {@code *}.
+     *
+     * @param uuid             The UUID of the player.
+     * @param permission       The permission node.
+     * @param resolveWildcards Whether wildcards are looked up.
+     * @return {@link #ABSENT} if the player isn't stored; otherwise {@link #OP} if they are an
+     * operator, combined with {@link #SET} and {@link #VALUE} if the node or a wildcard is set.
+     */
+    int lookup(@NotNull UUID uuid, @NotNull String permission, boolean resolveWildcards) {
+        lock.readLock().lock();
+
+        try {
+            @Nullable Integer slot = slots.get(uuid);
+
+            if (slot == null) {
+                return ABSENT;
+            }
+
+            int offset = slotOffset(slot);
+            int flags = (buffer.getInt(offset + 28) & 1) != 0 ? OP : 0;
+            int count = buffer.getInt(offset + 24);
+            int value = find(offset, count, hash(permission, permission.length()));
+
+            if (value < 0 && resolveWildcards) {
+                // Checks a.b.*, then a.*, then *.
+                for (int dot = permission.lastIndexOf('.'); value < 0 && dot >= 0; dot = permission.lastIndexOf('.', dot - 1)) {
+                    value = find(offset, count, mix(hash(permission, dot + 1), '*'));
+                }
+
+                if (value < 0) {
+                    value = find(offset, count, mix(FNV_OFFSET, '*'));
+                }
+            }
+            return value < 0 ? flags : flags | SET | (value == 1 ? VALUE : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of players in the store.
+     *
+     * @return The number of stored players.
+     */
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks if the existing file was written with the same layout.
+     *
+     * @return Whether the file header matches this store.
+     * @throws IOException If the header can't be read.
+     */
+    private boolean hasCompatibleHeader() throws IOException {
+        @NotNull ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return false;
+            }
+        }
+        return header.getLong(0) == MAGIC && header.getInt(8) == VERSION
+                && header.getInt(12) == maxPlayers && header.getInt(16) == maxNodes;
+    }
+
+    /**
+     * Indexes the valid slots of an existing file, ordered by when they were written.
+     */
+    private void loadSlots() {
+        @NotNull List<long[]> stored = new ArrayList<>();
+
+        for (int slot = 0; slot < maxPlayers; slot++) {
+            int offset = slotOffset(slot);
+            int count = buffer.getInt(offset + 24);
+            int checksum = buffer.getInt(offset + 36);
+
+            if (checksum == 0 || count < 0 || count > maxNodes || checksum != checksum(offset, count)) {
+                freeSlots.add(slot);
+                continue;
+            }
+
+            stored.add(new long[]{buffer.getLong(offset + 16), slot});
+        }
+
+        stored.sort(Comparator.comparingLong(entry -> entry[0]));
+
+        for (long[] entry : stored) {
+            int offset = slotOffset((int) entry[1]);
+            @NotNull UUID uuid = new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+
+            // A torn rewrite may leave an older copy of a player; the newest one wins.
+            @Nullable Integer previous = slots.remove(uuid);
+
+            if (previous != null) {
+                buffer.putInt(slotOffset(previous) + 36, 0);
+                freeSlots.add(previous);
+            }
+
+            slots.put(uuid, (int) entry[1]);
+        }
+    }
+
+    /**
+     * Writes a snapshot to a slot. The checksum is written last, so a torn write is discarded on load.
+     *
+     * @param slot   The slot to write.
+     * @param uuid   The UUID of the player.
+     * @param op     Whether the player is an operator.
+     * @param seenAt When the snapshot was taken.
+     * @param keys   The sorted node keys.
+     */
+    private void writeSlot(int slot, @NotNull UUID uuid, boolean op, long seenAt, long @NotNull [] keys) {
+        int offset = slotOffset(slot);
+        buffer.putInt(offset + 36, 0);
+        buffer.putLong(offset, uuid.getMostSignificantBits());
+        buffer.putLong(offset + 8, uuid.getLeastSignificantBits());
+        buffer.putLong(offset + 16, seenAt);
+        buffer.putInt(offset + 24, keys.length);
+        buffer.putInt(offset + 28, op ? 1 : 0);
+        buffer.putInt(offset + 32, 0);
+
+        for (int i = 0; i < keys.length; i++) {
+            buffer.putLong(offset + SLOT_HEADER_SIZE + i * 8, keys[i]);
+        }
+
+        buffer.putInt(offset + 36, checksum(offset, keys.length));
+    }
+
+    /**
+     * Binary searches a slot for a node hash.
+     *
+     * @param offset The offset of the slot.
+     * @param count  The number of keys in the slot.
+     * @param hash   The hash of the node.
+     * @return 1 if the node is granted, 0 if it is denied, or -1 if it isn't in the slot.
+     */
+    private int find(int offset, int count, long hash) {
+        long target = hash & ~1L;
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long key = buffer.getLong(offset + SLOT_HEADER_SIZE + mid * 8);
+            long node = key & ~1L;
+
+            if (node < target) {
+                low = mid + 1;
+            } else if (node > target) {
+                high = mid - 1;
+            } else {
+                return (int) (key & 1L);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the checksum of a slot's contents.
+     *
+     * @param offset The offset of the slot.
+     * @param count  The number of keys in the slot.
+     * @return The checksum; never zero.
+     */
+    private int checksum(int offset, int count) {
+        long hash = FNV_OFFSET;
+
+        for (int i = 0; i < SLOT_HEADER_SIZE - 8 + count * 8; i += 8) {
+            int position = i < SLOT_HEADER_SIZE - 8 ? offset + i : offset + SLOT_HEADER_SIZE + i - (SLOT_HEADER_SIZE - 8);
+            hash = (hash ^ buffer.getLong(position)) * 0x9E3779B97F4A7C15L;
+        }
+
+        int result = (int) (hash ^ (hash >>> 32));
+        return result == 0 ? 1 : result;
+    }
+
+    /**
+     * Gets the offset of a slot in the file.
+     *
+     * @param slot The slot index.
+     * @return The byte offset.
+     */
+    private int slotOffset(int slot) {
+        return FILE_HEADER_SIZE + slot * slotSize;
+    }
+
+    /**
+     * Hashes the first characters of a node, ignoring case.
+     *
+     * @param node   The permission node.
+     * @param length The number of characters to hash.
+     * @return The 64-bit FNV-1a hash.
+     */
+    private static long hash(@NotNull String node, int length) {
+        long hash = FNV_OFFSET;
+
+        for (int i = 0; i < length; i++) {
+            hash = mix(hash, Character.toLowerCase(node.charAt(i)));
+        }
+        return hash;
+    }
+
+    /**
+     * Adds a character to an FNV-1a hash.
+     *
+     * @param hash      The hash so far.
+     * @param character The character to add.
+     * @return The new hash.
+     */
+    private static long mix(long hash, char character) {
+        return (hash ^ character) * FNV_PRIME;
+    }
+}
@@ -18,7 +18,7 @@
 package net.milkbowl.vault.permission;
 
 import net.milkbowl.vault.util.ConstantUtil;
-import org.bukkit.Bukkit;
+import net.milkbowl.vault.util.PlayerIndex;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -28,8 +28,11 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Iterator;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract class for Vault's Permission API.
@@ -41,6 +44,9 @@ public abstract class Permission {
 
     protected Plugin plugin;
 
+    // This plugin's attachment on each online player, so it isn't searched for on every change.
+    private final Map<UUID, PermissionAttachment> attachments = new ConcurrentHashMap<>();
+
     /**
      * Get the name of the permission system.
      *
@@ -112,6 +118,26 @@ public abstract class Permission {
      */
     public abstract boolean playerHas(UUID uuid, String permission);
 
+    /**
+     * Check if a player has each of the given permissions.
+     * The default implementation calls {@link #playerHas(UUID, String)} for each node;
+     * providers may override this to resolve the player only once.
+     *
+     * @param uuid        The UUID of the player.
+     * @param permissions The permission nodes.
+     * @return A set with bit {@code i} set if the player has {@code permissions[i]}.
+     */
+    public @NotNull BitSet playerHasEach(UUID uuid, String @NotNull ... permissions) {
+        @NotNull BitSet result = new BitSet(permissions.length);
+
+        for (int i = 0; i < permissions.length; i++) {
+            if (playerHas(uuid, permissions[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
     @Deprecated
     public boolean playerHas(@NotNull Player player, String permission) {
         @NotNull UUID uniqueId = player.getUniqueId();
@@ -126,13 +152,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerHas(@NotNull String playerName, String permission) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerHas(player, permission);
-        } else {
-            return playerHas(Bukkit.getOfflinePlayer(playerName), permission);
-        }
+        return playerHas(PlayerIndex.getUniqueId(playerName), permission);
     }
 
     @Deprecated
@@ -149,13 +169,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerHas(String world, @NotNull String playerName, String permission) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerHas(player, permission);
-        } else {
-            return playerHas(Bukkit.getOfflinePlayer(playerName), permission);
-        }
+        return playerHas(PlayerIndex.getUniqueId(playerName), permission);
     }
 
     /**
@@ -181,13 +195,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerAdd(@NotNull String playerName, String permission) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerAdd(player, permission);
-        } else {
-            return playerAdd(Bukkit.getOfflinePlayer(playerName), permission);
-        }
+        return playerAdd(PlayerIndex.getUniqueId(playerName), permission);
     }
 
     @Deprecated
@@ -204,13 +212,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerAdd(String world, @NotNull String playerName, String permission) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerAdd(player, permission);
-        } else {
-            return playerAdd(Bukkit.getOfflinePlayer(playerName), permission);
-        }
+        return playerAdd(PlayerIndex.getUniqueId(playerName), permission);
     }
 
     /**
@@ -236,13 +238,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerRemove(@NotNull String playerName, String permission) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerRemove(player, permission);
-        } else {
-            return playerRemove(Bukkit.getOfflinePlayer(playerName), permission);
-        }
+        return playerRemove(PlayerIndex.getUniqueId(playerName), permission);
     }
 
     @Deprecated
@@ -259,13 +255,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerRemove(String world, @NotNull String playerName, String permission) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerRemove(player, permission);
-        } else {
-            return playerRemove(Bukkit.getOfflinePlayer(playerName), permission);
-        }
+        return playerRemove(PlayerIndex.getUniqueId(playerName), permission);
     }
 
     /**
@@ -302,20 +292,39 @@ public abstract class Permission {
      */
     public boolean playerAddTransient(@NotNull Player player, @NotNull String permission) {
         try {
-            @NotNull Iterator<PermissionAttachmentInfo> iterator = player.getEffectivePermissions().iterator();
-            PermissionAttachmentInfo paInfo;
-
-            while (iterator.hasNext()) {
-                paInfo = iterator.next();
+            @NotNull PermissionAttachment attachment = getAttachment(player);
+            attachment.setPermission(permission, true);
+            return true;
+        } catch (RuntimeException ex) {
+            ex.printStackTrace();
+            return false;
+        }
+    }
 
-                if (paInfo.getAttachment() != null && paInfo.getAttachment().getPlugin().equals(plugin)) {
-                    paInfo.getAttachment().setPermission(permission, true);
-                    return true;
-                }
-            }
+    /**
+     * Add several transient permissions to a player, recalculating their permissions only once.
+     * Transient permissions are not stored and are typically cleared when a player logs out.
+     *
+     * @param uuid        The UUID of the player.
+     * @param permissions The transient permission nodes.
+     * @return true if the transient permissions were successfully added, false otherwise.
+     * @throws UnsupportedOperationException If the player is not online.
+     */
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        return playerAddTransient(getOnlinePlayer(uuid), permissions);
+    }
 
-            @NotNull PermissionAttachment attach = player.addAttachment(plugin);
-            attach.setPermission(permission, true);
+    /**
+     * Add several transient permissions to a player, recalculating their permissions only once.
+     * Transient permissions are not stored and are typically cleared when a player logs out.
+     *
+     * @param player      The Player.
+     * @param permissions The transient permission nodes.
+     * @return true if the transient permissions were successfully added, false otherwise.
+     */
+    public boolean playerAddTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        try {
+            TransientPermissions.apply(getAttachment(player), permissions, true);
             return true;
         } catch (RuntimeException ex) {
             ex.printStackTrace();
@@ -355,21 +364,126 @@ public abstract class Permission {
      * @return true if the transient permission was successfully removed, false otherwise.
      */
     public boolean playerRemoveTransient(@NotNull Player player, @NotNull String permission) {
-        @NotNull Iterator<PermissionAttachmentInfo> iterator = player.getEffectivePermissions().iterator();
-        PermissionAttachmentInfo paInfo;
+        @Nullable PermissionAttachment attachment = findAttachment(player);
 
-        do {
-            if (!iterator.hasNext()) {
-                return false;
-            }
+        if (attachment == null) {
+            return false;
+        }
+
+        attachment.unsetPermission(permission);
+        return true;
+    }
+
+    /**
+     * Remove several transient permissions from a player, recalculating their permissions only once.
+     * Transient permissions are not stored and are typically cleared when a player logs out.
+     *
+     * @param uuid        The UUID of the player.
+     * @param permissions The transient permission nodes.
+     * @return true if the transient permissions were successfully removed, false otherwise.
+     * @throws UnsupportedOperationException If the player is not online.
+     */
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        return playerRemoveTransient(getOnlinePlayer(uuid), permissions);
+    }
 
-            paInfo = iterator.next();
-        } while (paInfo.getAttachment() == null || !paInfo.getAttachment().getPlugin().equals(plugin));
+    /**
+     * Remove several transient permissions from a player, recalculating their permissions only once.
+     * Transient permissions are not stored and are typically cleared when a player logs out.
+     *
+     * @param player      The Player.
+     * @param permissions The transient permission nodes.
+     * @return true if the transient permissions were successfully removed, false otherwise.
+     */
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        @Nullable PermissionAttachment attachment = findAttachment(player);
 
-        paInfo.getAttachment().unsetPermission(permission);
+        if (attachment == null) {
+            return false;
+        }
+
+        TransientPermissions.apply(attachment, permissions, null);
         return true;
     }
 
+    /**
+     * Forget the transient permission attachment kept for a player.
+     * Called when the player leaves the server.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public void releaseAttachment(@NotNull UUID uuid) {
+        attachments.remove(uuid);
+    }
+
+    /**
+     * Get an online player, for the transient permission methods.
+     *
+     * @param uuid The UUID of the player.
+     * @return The online player.
+     * @throws UnsupportedOperationException If the player is not online.
+     */
+    private @NotNull Player getOnlinePlayer(@NotNull UUID uuid) {
+        @Nullable Player player = plugin.getServer().getPlayer(uuid);
+
+        if (player == null || !player.isOnline()) {
+            throw new UnsupportedOperationException(getName() + ConstantUtil.NO_TRANSIENT_PERMISSIONS);
+        }
+        return player;
+    }
+
+    /**
+     * Get this plugin's attachment on a player, adding one if there is none.
+     *
+     * @param player The Player.
+     * @return The attachment.
+     */
+    private @NotNull PermissionAttachment getAttachment(@NotNull Player player) {
+        @Nullable PermissionAttachment attachment = findAttachment(player);
+
+        if (attachment == null) {
+            @NotNull UUID uuid = player.getUniqueId();
+            attachment = player.addAttachment(plugin);
+
+            // Forgets the attachment once it is removed, by this plugin or any other.
+            attachment.setRemovalCallback(removed -> attachments.remove(uuid, removed));
+            attachments.put(uuid, attachment);
+        }
+        return attachment;
+    }
+
+    /**
+     * Find this plugin's attachment on a player.
+     * Attachments added by this class are remembered until they are removed, so the
+     * player's effective permissions are only searched if there is none; attachments
+     * found in the search may be removed without notice, so they are not remembered.
+     *
+     * @param player The Player.
+     * @return The attachment, or null if the player has none.
+     */
+    private @Nullable PermissionAttachment findAttachment(@NotNull Player player) {
+        @NotNull UUID uuid = player.getUniqueId();
+        @Nullable PermissionAttachment attachment = attachments.get(uuid);
+
+        if (attachment != null) {
+            // A rejoined player is a new Player object with new attachments.
+            if (attachment.getPermissible() == player) {
+                return attachment;
+            }
+
+            attachments.remove(uuid, attachment);
+        }
+
+        for (@NotNull PermissionAttachmentInfo info : player.getEffectivePermissions()) {
+            @Nullable PermissionAttachment candidate = info.getAttachment();
+
+            if (candidate != null && candidate.getPlugin().equals(plugin)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
     /**
      * Check if a group has a specific permission in a given world.
      *
@@ -420,13 +534,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerInGroup(@NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerInGroup(player, group);
-        } else {
-            return playerInGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerInGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     @Deprecated
@@ -443,13 +551,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerInGroup(String world, @NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerInGroup(player, group);
-        } else {
-            return playerInGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerInGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     /**
@@ -475,13 +577,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerAddGroup(@NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerAddGroup(player, group);
-        } else {
-            return playerAddGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerAddGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     @Deprecated
@@ -498,13 +594,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerAddGroup(String world, @NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerAddGroup(player, group);
-        } else {
-            return playerAddGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerAddGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     /**
@@ -530,13 +620,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerRemoveGroup(@NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerRemoveGroup(player, group);
-        } else {
-            return playerRemoveGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerRemoveGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     @Deprecated
@@ -553,13 +637,7 @@ public abstract class Permission {
 
     @Deprecated
     public boolean playerRemoveGroup(String world, @NotNull String playerName, String group) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return playerRemoveGroup(player, group);
-        } else {
-            return playerRemoveGroup(Bukkit.getOfflinePlayer(playerName), group);
-        }
+        return playerRemoveGroup(PlayerIndex.getUniqueId(playerName), group);
     }
 
     /**
@@ -584,13 +662,7 @@ public abstract class Permission {
 
     @Deprecated
     public String[] getPlayerGroups(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerGroups(player);
-        } else {
-            return getPlayerGroups(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerGroups(PlayerIndex.getUniqueId(playerName));
     }
 
     @Deprecated
@@ -607,13 +679,7 @@ public abstract class Permission {
 
     @Deprecated
     public String[] getPlayerGroups(String world, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPlayerGroups(player);
-        } else {
-            return getPlayerGroups(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPlayerGroups(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -638,13 +704,7 @@ public abstract class Permission {
 
     @Deprecated
     public String getPrimaryGroup(@NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPrimaryGroup(player);
-        } else {
-            return getPrimaryGroup(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPrimaryGroup(PlayerIndex.getUniqueId(playerName));
     }
 
     @Deprecated
@@ -661,13 +721,7 @@ public abstract class Permission {
 
     @Deprecated
     public String getPrimaryGroup(String world, @NotNull String playerName) {
-        @Nullable Player player = Bukkit.getPlayer(playerName);
-
-        if (player != null) {
-            return getPrimaryGroup(player);
-        } else {
-            return getPrimaryGroup(Bukkit.getOfflinePlayer(playerName));
-        }
+        return getPrimaryGroup(PlayerIndex.getUniqueId(playerName));
     }
 
     /**
@@ -0,0 +1,574 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import lombok.Getter;
+import net.milkbowl.vault.util.ServiceDecorator;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Base class for Permission decorators; forwards every call to the decorated provider.
+ * Group membership changes are also recorded in {@link GroupVersions}.
+ *
+ * @author Foulest
+ */
+@Getter
+public abstract class PermissionDecorator extends Permission implements ServiceDecorator<Permission> {
+
+    private final @NotNull Permission delegate;
+
+    protected PermissionDecorator(@NotNull Permission delegate) {
+        this.delegate = delegate;
+        plugin = delegate.plugin;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public boolean hasSuperPermsCompat() {
+        return delegate.hasSuperPermsCompat();
+    }
+
+    @Override
+    public boolean playerHas(UUID uuid, String permission) {
+        return delegate.playerHas(uuid, permission);
+    }
+
+    @Override
+    public @NotNull BitSet playerHasEach(UUID uuid, String @NotNull ... permissions) {
+        return delegate.playerHasEach(uuid, permissions);
+    }
+
+    @Override
+    public boolean playerAdd(UUID uuid, String permission) {
+        return delegate.playerAdd(uuid, permission);
+    }
+
+    @Override
+    public boolean playerRemove(UUID uuid, String permission) {
+        return delegate.playerRemove(uuid, permission);
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull String permission) {
+        return delegate.playerAddTransient(uuid, permission);
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull String permission) {
+        return delegate.playerAddTransient(player, permission);
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull String permission) {
+        return delegate.playerRemoveTransient(uuid, permission);
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull String permission) {
+        return delegate.playerRemoveTransient(player, permission);
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        return delegate.playerAddTransient(uuid, permissions);
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        return delegate.playerAddTransient(player, permissions);
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull UUID uuid, @NotNull Collection<String> permissions) {
+        return delegate.playerRemoveTransient(uuid, permissions);
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        return delegate.playerRemoveTransient(player, permissions);
+    }
+
+    @Override
+    public void releaseAttachment(@NotNull UUID uuid) {
+        delegate.releaseAttachment(uuid);
+    }
+
+    @Override
+    public boolean groupHas(String group, String permission) {
+        return delegate.groupHas(group, permission);
+    }
+
+    @Override
+    public boolean groupAdd(String group, String permission) {
+        return delegate.groupAdd(group, permission);
+    }
+
+    @Override
+    public boolean groupRemove(String group, String permission) {
+        return delegate.groupRemove(group, permission);
+    }
+
+    @Override
+    public boolean playerInGroup(UUID uuid, String group) {
+        return delegate.playerInGroup(uuid, group);
+    }
+
+    @Override
+    public boolean playerAddGroup(UUID uuid, String group) {
+        try {
+            return delegate.playerAddGroup(uuid, group);
+        } finally {
+            GroupVersions.increment(uuid);
+        }
+    }
+
+    @Override
+    public boolean playerRemoveGroup(UUID uuid, String group) {
+        try {
+            return delegate.playerRemoveGroup(uuid, group);
+        } finally {
+            GroupVersions.increment(uuid);
+        }
+    }
+
+    @Override
+    public String[] getPlayerGroups(UUID uuid) {
+        return delegate.getPlayerGroups(uuid);
+    }
+
+    @Override
+    public String getPrimaryGroup(UUID uuid) {
+        return delegate.getPrimaryGroup(uuid);
+    }
+
+    @Override
+    public String[] getGroups() {
+        return delegate.getGroups();
+    }
+
+    @Override
+    public boolean hasGroupSupport() {
+        return delegate.hasGroupSupport();
+    }
+
+    // Deprecated overloads are forwarded too, as providers may override them,
+    // for example to apply the world argument that the base class drops.
+    @Override
+    @Deprecated
+    public boolean has(UUID uuid, String permission) {
+        return delegate.has(uuid, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull CommandSender sender, String permission) {
+        return delegate.has(sender, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull Player player, String permission) {
+        return delegate.has(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull OfflinePlayer player, String permission) {
+        return delegate.has(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(@NotNull String playerName, String permission) {
+        return delegate.has(playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(String world, @NotNull Player player, String permission) {
+        return delegate.has(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(String world, @NotNull OfflinePlayer player, String permission) {
+        return delegate.has(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean has(String world, @NotNull String playerName, String permission) {
+        return delegate.has(world, playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(@NotNull Player player, String permission) {
+        return delegate.playerHas(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(@NotNull OfflinePlayer player, String permission) {
+        return delegate.playerHas(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(@NotNull String playerName, String permission) {
+        return delegate.playerHas(playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(String world, @NotNull Player player, String permission) {
+        return delegate.playerHas(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(String world, @NotNull OfflinePlayer player, String permission) {
+        return delegate.playerHas(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerHas(String world, @NotNull String playerName, String permission) {
+        return delegate.playerHas(world, playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull Player player, String permission) {
+        return delegate.playerAdd(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull OfflinePlayer player, String permission) {
+        return delegate.playerAdd(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(@NotNull String playerName, String permission) {
+        return delegate.playerAdd(playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull Player player, String permission) {
+        return delegate.playerAdd(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull OfflinePlayer player, String permission) {
+        return delegate.playerAdd(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAdd(String world, @NotNull String playerName, String permission) {
+        return delegate.playerAdd(world, playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull Player player, String permission) {
+        return delegate.playerRemove(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull OfflinePlayer player, String permission) {
+        return delegate.playerRemove(player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@NotNull String playerName, String permission) {
+        return delegate.playerRemove(playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull Player player, String permission) {
+        return delegate.playerRemove(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull OfflinePlayer player, String permission) {
+        return delegate.playerRemove(world, player, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(String world, @NotNull String playerName, String permission) {
+        return delegate.playerRemove(world, playerName, permission);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull Player player, String group) {
+        return delegate.playerInGroup(player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull OfflinePlayer player, String group) {
+        return delegate.playerInGroup(player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(@NotNull String playerName, String group) {
+        return delegate.playerInGroup(playerName, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull Player player, String group) {
+        return delegate.playerInGroup(world, player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull OfflinePlayer player, String group) {
+        return delegate.playerInGroup(world, player, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerInGroup(String world, @NotNull String playerName, String group) {
+        return delegate.playerInGroup(world, playerName, group);
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull Player player, String group) {
+        try {
+            return delegate.playerAddGroup(player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull OfflinePlayer player, String group) {
+        try {
+            return delegate.playerAddGroup(player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(@NotNull String playerName, String group) {
+        boolean result = delegate.playerAddGroup(playerName, group);
+
+        if (result) {
+            GroupVersions.incrementAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull Player player, String group) {
+        try {
+            return delegate.playerAddGroup(world, player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull OfflinePlayer player, String group) {
+        try {
+            return delegate.playerAddGroup(world, player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerAddGroup(String world, @NotNull String playerName, String group) {
+        boolean result = delegate.playerAddGroup(world, playerName, group);
+
+        if (result) {
+            GroupVersions.incrementAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull Player player, String group) {
+        try {
+            return delegate.playerRemoveGroup(player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull OfflinePlayer player, String group) {
+        try {
+            return delegate.playerRemoveGroup(player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(@NotNull String playerName, String group) {
+        boolean result = delegate.playerRemoveGroup(playerName, group);
+
+        if (result) {
+            GroupVersions.incrementAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull Player player, String group) {
+        try {
+            return delegate.playerRemoveGroup(world, player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull OfflinePlayer player, String group) {
+        try {
+            return delegate.playerRemoveGroup(world, player, group);
+        } finally {
+            GroupVersions.increment(player.getUniqueId());
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemoveGroup(String world, @NotNull String playerName, String group) {
+        boolean result = delegate.playerRemoveGroup(world, playerName, group);
+
+        if (result) {
+            GroupVersions.incrementAll();
+        }
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull Player player) {
+        return delegate.getPlayerGroups(player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull OfflinePlayer player) {
+        return delegate.getPlayerGroups(player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(@NotNull String playerName) {
+        return delegate.getPlayerGroups(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull Player player) {
+        return delegate.getPlayerGroups(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull OfflinePlayer player) {
+        return delegate.getPlayerGroups(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String[] getPlayerGroups(String world, @NotNull String playerName) {
+        return delegate.getPlayerGroups(world, playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull Player player) {
+        return delegate.getPrimaryGroup(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull OfflinePlayer player) {
+        return delegate.getPrimaryGroup(player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(@NotNull String playerName) {
+        return delegate.getPrimaryGroup(playerName);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull Player player) {
+        return delegate.getPrimaryGroup(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull OfflinePlayer player) {
+        return delegate.getPrimaryGroup(world, player);
+    }
+
+    @Override
+    @Deprecated
+    public String getPrimaryGroup(String world, @NotNull String playerName) {
+        return delegate.getPrimaryGroup(world, playerName);
+    }
+}
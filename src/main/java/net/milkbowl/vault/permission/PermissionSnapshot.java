@@ -0,0 +1,123 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of a player's effective permissions, built in one pass for SuperPerms.
+ * It holds the wildcard nodes set on the player through an attachment, and the groups
+ * they are in, taken from the {@code groups.<name>} nodes they are granted. Wildcards
+ * that only come from a registered default (such as an operator's {@code plugin.*})
+ * are left out, so they can't grant nodes that are registered as {@code false}.
+ * <p>
+ * Instances are immutable once built, and safe to read from any thread.
+ *
+ * @author Foulest
+ */
+final class PermissionSnapshot {
+
+    static final String GROUP_PREFIX = "groups.";
+    static final String DEFAULT_GROUP = "default";
+
+    private final @Nullable PermissionTrie wildcards;
+    private final @NotNull Set<String> groups;
+    private final String @NotNull [] groupArray;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param wildcards The player's wildcard nodes, or null if there are none.
+     * @param groups    The player's groups, in lowercase.
+     */
+    private PermissionSnapshot(@Nullable PermissionTrie wildcards, @NotNull SortedSet<String> groups) {
+        this.wildcards = wildcards;
+        this.groups = groups;
+        groupArray = groups.toArray(new String[0]);
+    }
+
+    /**
+     * Builds a snapshot of the given effective permissions.
+     *
+     * @param permissions      The effective permissions of a player.
+     * @param resolveWildcards Whether to index wildcard nodes.
+     * @return The snapshot.
+     */
+    static @NotNull PermissionSnapshot of(@NotNull Iterable<PermissionAttachmentInfo> permissions,
+                                          boolean resolveWildcards) {
+        @NotNull PermissionTrie trie = new PermissionTrie();
+        @NotNull SortedSet<String> groups = new TreeSet<>();
+
+        for (@NotNull PermissionAttachmentInfo info : permissions) {
+            @Nullable String node = info.getPermission();
+
+            if (node == null || resolveWildcards && info.getAttachment() != null
+                    && trie.addWildcard(node, info.getValue())) {
+                continue;
+            }
+
+            if (info.getValue() && node.length() > GROUP_PREFIX.length() && node.indexOf('*') < 0
+                    && node.regionMatches(true, 0, GROUP_PREFIX, 0, GROUP_PREFIX.length())) {
+                groups.add(node.substring(GROUP_PREFIX.length()).toLowerCase(Locale.ROOT));
+            }
+        }
+        return new PermissionSnapshot(trie.isEmpty() ? null : trie, groups);
+    }
+
+    /**
+     * Gets the player's wildcard nodes.
+     *
+     * @return The wildcards, or null if there are none.
+     */
+    @Nullable PermissionTrie getWildcards() {
+        return wildcards;
+    }
+
+    /**
+     * Checks if the player is in a group.
+     *
+     * @param group The group name.
+     * @return Whether the player has the group's node.
+     */
+    boolean inGroup(@NotNull String group) {
+        return groups.contains(group.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets the groups of the player.
+     *
+     * @return A copy of the player's groups, in alphabetical order.
+     */
+    String @NotNull [] getGroups() {
+        return groupArray.clone();
+    }
+
+    /**
+     * Gets the primary group of the player.
+     *
+     * @return The first of the player's groups in alphabetical order,
+     * or {@value #DEFAULT_GROUP} if they aren't in any.
+     */
+    @NotNull String getPrimaryGroup() {
+        return groupArray.length == 0 ? DEFAULT_GROUP : groupArray[0];
+    }
+}
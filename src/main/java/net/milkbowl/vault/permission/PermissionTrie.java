@@ -0,0 +1,142 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trie of wildcard permission nodes such as {@code plugin.*} or {@code *},
+ * split on dots. A wildcard applies to every node below it, so {@code a.b.*}
+ * matches {@code a.b.c} and {@code a.b.c.d}, but not {@code a.b} itself.
+ * <p>
+ * Instances are immutable once built, and safe to read from any thread.
+ *
+ * @author Foulest
+ */
+final class PermissionTrie {
+
+    private static final String WILDCARD = "*";
+
+    private final Node root = new Node();
+
+    /**
+     * Adds the given node if it is a wildcard.
+     *
+     * @param node  The permission node.
+     * @param value The value of the node.
+     * @return Whether the node was a wildcard and was added.
+     */
+    boolean addWildcard(@NotNull String node, boolean value) {
+        if (!node.equals(WILDCARD) && !node.endsWith("." + WILDCARD)) {
+            return false;
+        }
+
+        putWildcard(node.substring(0, Math.max(0, node.length() - 2)), value);
+        return true;
+    }
+
+    /**
+     * Checks if the trie has no wildcards at all.
+     *
+     * @return Whether the trie is empty.
+     */
+    boolean isEmpty() {
+        return root.wildcard == null && root.children == null;
+    }
+
+    /**
+     * Finds the most specific wildcard matching the given node, in a single walk
+     * proportional to the depth of the node.
+     *
+     * @param permission The permission node to look up.
+     * @return The value of the most specific matching wildcard, or null if none matches.
+     */
+    @Nullable Boolean find(@NotNull String permission) {
+        @NotNull String node = permission.toLowerCase(Locale.ROOT);
+        @Nullable Boolean match = root.wildcard;
+        @Nullable Node current = root;
+        int start = 0;
+
+        // Wildcards only match nodes below them, so the last segment is never looked up.
+        for (int dot = node.indexOf('.'); dot >= 0 && current != null; dot = node.indexOf('.', start)) {
+            current = current.child(node.substring(start, dot));
+
+            if (current != null && current.wildcard != null) {
+                match = current.wildcard;
+            }
+
+            start = dot + 1;
+        }
+        return match;
+    }
+
+    /**
+     * Sets the wildcard value of the given prefix.
+     *
+     * @param prefix The node without its trailing {@code .*}; empty for {@code *}.
+     * @param value  The value of the wildcard.
+     */
+    private void putWildcard(@NotNull String prefix, boolean value) {
+        @NotNull Node current = root;
+
+        if (!prefix.isEmpty()) {
+            for (@NotNull String segment : prefix.toLowerCase(Locale.ROOT).split("\\.")) {
+                current = current.getOrCreateChild(segment);
+            }
+        }
+
+        current.wildcard = value;
+    }
+
+    /**
+     * A segment of a permission node.
+     */
+    private static final class Node {
+
+        private @Nullable Map<String, Node> children;
+        private @Nullable Boolean wildcard;
+
+        /**
+         * Gets the child for the given segment.
+         *
+         * @param segment The segment to look up.
+         * @return The child, or null if there is none.
+         */
+        @Nullable Node child(@NotNull String segment) {
+            return children == null ? null : children.get(segment);
+        }
+
+        /**
+         * Gets the child for the given segment, creating it if it doesn't exist.
+         *
+         * @param segment The segment to look up.
+         * @return The child.
+         */
+        @NotNull Node getOrCreateChild(@NotNull String segment) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(segment, key -> new Node());
+        }
+    }
+}
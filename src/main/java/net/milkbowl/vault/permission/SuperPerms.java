@@ -18,11 +18,18 @@
 package net.milkbowl.vault.permission;
 
 import net.milkbowl.vault.util.ConstantUtil;
+import net.milkbowl.vault.util.ExpiringCache;
 import org.bukkit.entity.Player;
+import org.bukkit.permissions.PermissionAttachment;
+import org.bukkit.permissions.PermissionAttachmentInfo;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,8 +39,32 @@ import java.util.UUID;
  */
 public class SuperPerms extends Permission {
 
+    // Index of each online player's effective permissions, rebuilt once expired.
+    private final @NotNull ExpiringCache<UUID, PermissionSnapshot> snapshots;
+    private final boolean resolveWildcards;
+
+    // Last known permissions of offline players; null if offline checks are disabled.
+    private final @Nullable OfflinePermissionStore offlineStore;
+
     public SuperPerms(Plugin plugin) {
+        this(plugin, false, 0L, null);
+    }
+
+    /**
+     * Creates a new SuperPerms provider.
+     *
+     * @param plugin           The plugin that owns this provider.
+     * @param resolveWildcards Whether wildcard nodes such as {@code plugin.*} are resolved.
+     * @param refreshMillis    The time in milliseconds before a player's wildcards and groups are rebuilt.
+     * @param offlineStore     The store used to check offline players, or null to treat them as having no permissions.
+     */
+    public SuperPerms(Plugin plugin, boolean resolveWildcards, long refreshMillis,
+                      @Nullable OfflinePermissionStore offlineStore) {
         this.plugin = plugin;
+        this.resolveWildcards = resolveWildcards;
+        this.offlineStore = offlineStore;
+        int maxPlayers = Math.max(16, plugin.getServer().getMaxPlayers());
+        snapshots = new ExpiringCache<>(maxPlayers, refreshMillis);
     }
 
     @Override
@@ -49,7 +80,32 @@ public class SuperPerms extends Permission {
     @Override
     public boolean playerHas(@NotNull UUID uuid, @NotNull String permission) {
         @Nullable Player player = plugin.getServer().getPlayer(uuid);
-        return player != null && player.hasPermission(permission);
+        return player == null ? offlineHas(uuid, permission) : has(player, getWildcards(player), permission);
+    }
+
+    @Override
+    public @NotNull BitSet playerHasEach(@NotNull UUID uuid, String @NotNull ... permissions) {
+        @NotNull BitSet result = new BitSet(permissions.length);
+        @Nullable Player player = plugin.getServer().getPlayer(uuid);
+
+        if (player == null) {
+            for (int i = 0; i < permissions.length; i++) {
+                if (offlineHas(uuid, permissions[i])) {
+                    result.set(i);
+                }
+            }
+            return result;
+        }
+
+        // Resolves the player once; each check is then a lookup in their computed permissions.
+        @Nullable PermissionTrie trie = getWildcards(player);
+
+        for (int i = 0; i < permissions.length; i++) {
+            if (has(player, trie, permissions[i])) {
+                result.set(i);
+            }
+        }
+        return result;
     }
 
     @Override
@@ -62,6 +118,42 @@ public class SuperPerms extends Permission {
         return false;
     }
 
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull String permission) {
+        try {
+            return super.playerAddTransient(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean playerAddTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        try {
+            return super.playerAddTransient(player, permissions);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull String permission) {
+        try {
+            return super.playerRemoveTransient(player, permission);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@NotNull Player player, @NotNull Collection<String> permissions) {
+        try {
+            return super.playerRemoveTransient(player, permissions);
+        } finally {
+            invalidate(player.getUniqueId());
+        }
+    }
+
     @Override
     public boolean groupHas(String group, String permission) {
         @NotNull String name = getName();
@@ -81,8 +173,21 @@ public class SuperPerms extends Permission {
     }
 
     @Override
-    public boolean playerInGroup(@NotNull UUID uuid, String group) {
-        return playerHas(uuid, "groups." + group);
+    public boolean playerInGroup(@NotNull UUID uuid, @NotNull String group) {
+        @Nullable Player player = plugin.getServer().getPlayer(uuid);
+
+        if (player == null) {
+            // Only an explicit grant counts; an unregistered node defaults to true for operators.
+            int flags = offlineStore == null ? OfflinePermissionStore.ABSENT
+                    : offlineStore.lookup(uuid, PermissionSnapshot.GROUP_PREFIX + group, resolveWildcards);
+            return flags != OfflinePermissionStore.ABSENT && (flags & OfflinePermissionStore.VALUE) != 0;
+        }
+
+        @NotNull PermissionSnapshot snapshot = getSnapshot(player);
+
+        // Groups granted through a wildcard such as groups.* aren't in the index.
+        return snapshot.inGroup(group) || snapshot.getWildcards() != null
+                && has(player, snapshot.getWildcards(), PermissionSnapshot.GROUP_PREFIX + group);
     }
 
     @Override
@@ -98,15 +203,15 @@ public class SuperPerms extends Permission {
     }
 
     @Override
-    public String[] getPlayerGroups(UUID uuid) {
-        @NotNull String name = getName();
-        throw new UnsupportedOperationException(name + ConstantUtil.NO_GROUP_PERMISSIONS);
+    public String @NotNull [] getPlayerGroups(@NotNull UUID uuid) {
+        @Nullable Player player = plugin.getServer().getPlayer(uuid);
+        return player == null ? new String[0] : getSnapshot(player).getGroups();
     }
 
     @Override
-    public String getPrimaryGroup(UUID uuid) {
-        @NotNull String name = getName();
-        throw new UnsupportedOperationException(name + ConstantUtil.NO_GROUP_PERMISSIONS);
+    public @NotNull String getPrimaryGroup(@NotNull UUID uuid) {
+        @Nullable Player player = plugin.getServer().getPlayer(uuid);
+        return player == null ? PermissionSnapshot.DEFAULT_GROUP : getSnapshot(player).getPrimaryGroup();
     }
 
     @Override
@@ -123,4 +228,106 @@ public class SuperPerms extends Permission {
     public boolean hasGroupSupport() {
         return false;
     }
+
+    /**
+     * Forgets the cached wildcards and groups of a player, so they are rebuilt on the next check.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        snapshots.invalidate(uuid);
+    }
+
+    /**
+     * Saves the current permissions of a player, so they can be checked once the player is offline.
+     * Only nodes set through attachments are saved, leaving out this plugin's transient permissions;
+     * other nodes are resolved from their registered defaults when checked.
+     *
+     * @param player The player, while still online.
+     */
+    public void rememberPlayer(@NotNull Player player) {
+        if (offlineStore == null) {
+            return;
+        }
+
+        @NotNull Map<String, Boolean> nodes = new HashMap<>();
+
+        for (@NotNull PermissionAttachmentInfo info : player.getEffectivePermissions()) {
+            @Nullable PermissionAttachment attachment = info.getAttachment();
+
+            if (attachment != null && !plugin.equals(attachment.getPlugin())) {
+                nodes.put(info.getPermission(), info.getValue());
+            }
+        }
+
+        offlineStore.put(player.getUniqueId(), player.isOp(), nodes);
+    }
+
+    /**
+     * Checks if an offline player had a permission when they were last online.
+     * Nodes that weren't set on the player resolve to their registered default,
+     * as they would for an online player.
+     *
+     * @param uuid       The UUID of the player.
+     * @param permission The permission node.
+     * @return Whether the player has the permission; false if the player is unknown.
+     */
+    private boolean offlineHas(@NotNull UUID uuid, @NotNull String permission) {
+        if (offlineStore == null) {
+            return false;
+        }
+
+        int flags = offlineStore.lookup(uuid, permission, resolveWildcards);
+
+        if (flags == OfflinePermissionStore.ABSENT) {
+            return false;
+        } else if ((flags & OfflinePermissionStore.SET) != 0) {
+            return (flags & OfflinePermissionStore.VALUE) != 0;
+        }
+
+        boolean op = (flags & OfflinePermissionStore.OP) != 0;
+        @Nullable org.bukkit.permissions.Permission registered = plugin.getServer().getPluginManager().getPermission(permission);
+        return registered == null ? op : registered.getDefault().getValue(op);
+    }
+
+    /**
+     * Gets the index of a player's effective permissions.
+     *
+     * @param player The player.
+     * @return The player's snapshot.
+     */
+    private @NotNull PermissionSnapshot getSnapshot(@NotNull Player player) {
+        return snapshots.get(player.getUniqueId(),
+                key -> PermissionSnapshot.of(player.getEffectivePermissions(), resolveWildcards));
+    }
+
+    /**
+     * Gets the wildcard nodes of a player.
+     *
+     * @param player The player.
+     * @return The player's wildcards, or null if wildcards aren't resolved or the player has none.
+     */
+    private @Nullable PermissionTrie getWildcards(@NotNull Player player) {
+        return resolveWildcards ? getSnapshot(player).getWildcards() : null;
+    }
+
+    /**
+     * Checks if a player has a permission. A node set on the player always wins;
+     * otherwise the most specific matching wildcard applies, and then the node's default.
+     *
+     * @param player     The player.
+     * @param trie       The player's wildcards, or null if there are none.
+     * @param permission The permission node.
+     * @return Whether the player has the permission.
+     */
+    private static boolean has(@NotNull Player player, @Nullable PermissionTrie trie, @NotNull String permission) {
+        if (trie != null && !player.isPermissionSet(permission)) {
+            @Nullable Boolean wildcard = trie.find(permission);
+
+            if (wildcard != null) {
+                return wildcard;
+            }
+        }
+        return player.hasPermission(permission);
+    }
 }
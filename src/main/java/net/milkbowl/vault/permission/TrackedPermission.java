@@ -0,0 +1,38 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Permission decorator that only forwards calls, so group membership changes made
+ * through Vault are recorded in {@link GroupVersions} when no other decorator is enabled.
+ *
+ * @author Foulest
+ */
+public class TrackedPermission extends PermissionDecorator {
+
+    /**
+     * Creates a new tracked Permission.
+     *
+     * @param delegate The Permission provider to track.
+     */
+    public TrackedPermission(@NotNull Permission delegate) {
+        super(delegate);
+    }
+}
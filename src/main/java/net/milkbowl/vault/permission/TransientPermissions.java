@@ -0,0 +1,130 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.permission;
+
+import lombok.experimental.UtilityClass;
+import net.milkbowl.vault.util.MessageUtil;
+import org.bukkit.permissions.Permissible;
+import org.bukkit.permissions.PermissionAttachment;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Utility class for changing many nodes of a {@link PermissionAttachment}
+ * with a single permission recalculation.
+ * <p>
+ * {@link PermissionAttachment#setPermission} recalculates the player's permissions
+ * on every call. Where the attachment's node map can be reached, the nodes are
+ * written to it directly and the permissions recalculated once; otherwise each
+ * node is set through the public API.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+class TransientPermissions {
+
+    // The attachment's private node map; null if it can't be accessed on this server.
+    private final @Nullable Field PERMISSIONS_FIELD = findPermissionsField();
+
+    /**
+     * Sets or unsets the given nodes on an attachment.
+     *
+     * @param attachment  The attachment to change.
+     * @param permissions The permission nodes.
+     * @param value       True to grant the nodes, or null to unset them.
+     */
+    void apply(@NotNull PermissionAttachment attachment, @NotNull Collection<String> permissions,
+               @Nullable Boolean value) {
+        @Nullable Map<String, Boolean> nodes = getNodes(attachment);
+
+        if (nodes == null) {
+            for (@NotNull String permission : permissions) {
+                if (value == null) {
+                    attachment.unsetPermission(permission);
+                } else {
+                    attachment.setPermission(permission, value);
+                }
+            }
+            return;
+        }
+
+        // Nodes are stored in lowercase, as PermissionAttachment itself does.
+        for (@NotNull String permission : permissions) {
+            @NotNull String node = permission.toLowerCase(Locale.ENGLISH);
+
+            if (value == null) {
+                nodes.remove(node);
+            } else {
+                nodes.put(node, value);
+            }
+        }
+
+        @Nullable Permissible permissible = attachment.getPermissible();
+
+        if (permissible != null) {
+            permissible.recalculatePermissions();
+        }
+    }
+
+    /**
+     * Gets the live node map of an attachment.
+     *
+     * @param attachment The attachment.
+     * @return The node map, or null if it can't be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    private @Nullable Map<String, Boolean> getNodes(@NotNull PermissionAttachment attachment) {
+        if (PERMISSIONS_FIELD == null) {
+            return null;
+        }
+
+        try {
+            return (Map<String, Boolean>) PERMISSIONS_FIELD.get(attachment);
+        } catch (IllegalAccessException | ClassCastException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the private node map field of {@link PermissionAttachment}.
+     *
+     * @return The field, or null if it doesn't exist or can't be accessed.
+     */
+    private @Nullable Field findPermissionsField() {
+        try {
+            @NotNull Field field = PermissionAttachment.class.getDeclaredField("permissions");
+
+            if (!Map.class.isAssignableFrom(field.getType())) {
+                return null;
+            }
+
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            MessageUtil.log(Level.WARNING, "Batched transient permissions are unavailable; "
+                    + "falling back to one recalculation per node.");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count and latency statistics of a single provider method.
+ * Latencies are recorded in a log-linear histogram with eight buckets per
+ * power of two, so percentiles are accurate to within 12.5%.
+ *
+ * @author Foulest
+ */
+public class CallMetrics {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder mainThreadCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a call.
+     *
+     * @param nanos      The duration of the call in nanoseconds.
+     * @param mainThread Whether the call was made on the main server thread.
+     */
+    public void record(long nanos, boolean mainThread) {
+        long duration = Math.max(0L, nanos);
+
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+        histogram.incrementAndGet(bucketOf(duration));
+
+        if (mainThread) {
+            mainThreadCount.increment();
+        }
+    }
+
+    /**
+     * Gets the number of recorded calls.
+     *
+     * @return The call count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the number of recorded calls made on the main server thread.
+     *
+     * @return The main thread call count.
+     */
+    public long getMainThreadCount() {
+        return mainThreadCount.sum();
+    }
+
+    /**
+     * Gets the total duration of all recorded calls.
+     *
+     * @return The total duration in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Gets the duration of the slowest recorded call.
+     *
+     * @return The maximum duration in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Gets an approximate percentile of the recorded call durations.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the percentile's histogram bucket in nanoseconds, or 0 if no calls were recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return 0L;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Clears all recorded calls.
+     */
+    public void reset() {
+        count.reset();
+        mainThreadCount.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0L);
+        }
+    }
+
+    /**
+     * Gets the histogram bucket of a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The bucket index.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (nanos >>> shift) & (SUB_BUCKETS - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    /**
+     * Gets the largest duration that falls into a histogram bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The upper bound in nanoseconds.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache whose entries expire after a fixed time.
+ * Once the cache is full, the least recently used entry is evicted.
+ * Null values are returned to the caller, but never cached.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ * @author Foulest
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, CachedValue<V>> entries;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Incremented on every invalidation. A load is not stored if its key was
+    // invalidated, or the whole cache was cleared, after the load started.
+    private long version;
+    private long clearedAt;
+    private final Map<K, Long> invalidatedAt;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize   The maximum number of entries to keep.
+     * @param ttlMillis The time in milliseconds before an entry expires.
+     */
+    public ExpiringCache(int maxSize, long ttlMillis) {
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        entries = new LinkedHashMap<K, CachedValue<V>>(16, 0.75F, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        // Bounded too; forgetting the oldest invalidation rejects every load that started before it.
+        invalidatedAt = new LinkedHashMap<K, Long>(16, 0.75F, false) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+                if (size() > maxSize) {
+                    clearedAt = Math.max(clearedAt, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached value for the given key, loading it if it is absent or expired.
+     * The loader is called without holding the cache lock.
+     *
+     * @param key    The key to look up.
+     * @param loader The function used to load a missing value.
+     * @return The cached or freshly loaded value.
+     */
+    public V get(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+        long stamp;
+
+        synchronized (this) {
+            @Nullable CachedValue<V> entry = entries.get(key);
+
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    return entry.value;
+                }
+
+                entries.remove(key);
+            }
+
+            stamp = version;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        put(key, value, stamp);
+        return value;
+    }
+
+    /**
+     * Gets the cached values for the given keys, loading all absent or expired keys in one call.
+     * The loader is called without holding the cache lock.
+     *
+     * @param keys   The keys to look up.
+     * @param loader The function used to load the missing values; keys it leaves out are not cached.
+     * @return Map of each key to its cached or freshly loaded value, in the order of the given keys.
+     */
+    public @NotNull Map<K, V> getAll(@NotNull Collection<? extends K> keys,
+                                     @NotNull Function<? super List<K>, ? extends Map<K, V>> loader) {
+        @NotNull Map<K, V> values = new LinkedHashMap<>();
+        @NotNull List<K> missing = new ArrayList<>();
+        long stamp;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+
+            for (@NotNull K key : keys) {
+                @Nullable CachedValue<V> entry = entries.get(key);
+
+                if (entry != null && now - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    values.put(key, entry.value);
+                } else {
+                    values.put(key, null);
+                    missing.add(key);
+                }
+            }
+
+            stamp = version;
+        }
+
+        if (missing.isEmpty()) {
+            return values;
+        }
+
+        misses.add(missing.size());
+        @NotNull Map<K, V> loaded = loader.apply(missing);
+
+        synchronized (this) {
+            long now = System.nanoTime();
+
+            for (@NotNull K key : missing) {
+                V value = loaded.get(key);
+                values.put(key, value);
+
+                if (value != null && isCurrent(key, stamp)) {
+                    entries.put(key, new CachedValue<>(value, now));
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Removes the given key from the cache.
+     *
+     * @param key The key to remove.
+     */
+    public synchronized void invalidate(@NotNull K key) {
+        version++;
+        entries.remove(key);
+
+        // Re-inserted, so the map stays ordered by version.
+        invalidatedAt.remove(key);
+        invalidatedAt.put(key, version);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        version++;
+        clearedAt = version;
+        entries.clear();
+        invalidatedAt.clear();
+    }
+
+    /**
+     * Gets the number of entries currently in the cache.
+     *
+     * @return The number of cached entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to be loaded.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted because the cache was full.
+     *
+     * @return The number of size-based evictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Stores a loaded value, unless it is null or its key was invalidated while it was loading.
+     *
+     * @param key   The key to store.
+     * @param value The loaded value.
+     * @param stamp The cache version observed before loading.
+     */
+    private synchronized void put(@NotNull K key, @Nullable V value, long stamp) {
+        if (value != null && isCurrent(key, stamp)) {
+            entries.put(key, new CachedValue<>(value, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Checks whether a key was not invalidated since a load of it started.
+     * Must be called while holding the cache lock.
+     *
+     * @param key   The loaded key.
+     * @param stamp The cache version observed before loading.
+     * @return true if the loaded value may be stored, false otherwise.
+     */
+    private boolean isCurrent(@NotNull K key, long stamp) {
+        if (clearedAt > stamp) {
+            return false;
+        }
+
+        @Nullable Long invalidated = invalidatedAt.get(key);
+        return invalidated == null || invalidated <= stamp;
+    }
+
+    /**
+     * A cached value and the time it was loaded.
+     *
+     * @param <V> The value type.
+     */
+    private static final class CachedValue<V> {
+
+        private final V value;
+        private final long loadedAt;
+
+        private CachedValue(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
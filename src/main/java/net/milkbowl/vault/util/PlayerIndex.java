@@ -0,0 +1,157 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Utility class for resolving player names to UUIDs from an index.
+ * Used by the deprecated name-based methods of Vault's APIs.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+public class PlayerIndex {
+
+    // Lowercased names to the UUID of the player last seen with that name.
+    private final Map<String, UUID> uuids = new ConcurrentHashMap<>();
+
+    // UUIDs to their indexed lowercased name, used to drop old names on rename.
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Indexes the online players, then the known offline players on a background thread,
+     * as reading their names may read their player data from disk.
+     * Offline players never replace a name that is already indexed; name collisions
+     * between them are settled when the current owner of the name joins.
+     *
+     * @param onlinePlayers The players who are online.
+     */
+    public void load(@NotNull Collection<? extends Player> onlinePlayers) {
+        for (@NotNull Player player : onlinePlayers) {
+            put(player);
+        }
+
+        @NotNull Thread thread = new Thread(() -> {
+            for (@NotNull OfflinePlayer player : Bukkit.getOfflinePlayers()) {
+                putIfAbsent(player);
+            }
+
+            MessageUtil.log(Level.INFO, "Indexed " + size() + " player names.");
+        }, "Vault Player Index Thread");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Indexes a player under their current name.
+     *
+     * @param player The player.
+     */
+    public void put(@NotNull OfflinePlayer player) {
+        @Nullable String name = player.getName();
+
+        if (name != null) {
+            put(name, player.getUniqueId());
+        }
+    }
+
+    /**
+     * Indexes a player under the given name, replacing any name they were indexed under before.
+     *
+     * @param name The player's name.
+     * @param uuid The player's UUID.
+     */
+    public void put(@NotNull String name, @NotNull UUID uuid) {
+        @NotNull String key = name.toLowerCase(Locale.ROOT);
+        uuids.put(key, uuid);
+
+        @Nullable String previous = names.put(uuid, key);
+
+        if (previous != null && !previous.equals(key)) {
+            uuids.remove(previous, uuid);
+        }
+    }
+
+    /**
+     * Gets the UUID of a player by name, ignoring case.
+     * Names that aren't indexed are resolved through {@link Bukkit#getOfflinePlayer(String)},
+     * which may block to look the name up. The result is only indexed if it is a player
+     * who has played on the server; other names may resolve to a different UUID once
+     * their owner joins, and would grow the index without bound.
+     *
+     * @param name The player's name.
+     * @return The player's UUID.
+     */
+    @SuppressWarnings("deprecation")
+    public @NotNull UUID getUniqueId(@NotNull String name) {
+        @Nullable UUID uuid = uuids.get(name.toLowerCase(Locale.ROOT));
+
+        if (uuid != null) {
+            return uuid;
+        }
+
+        @NotNull OfflinePlayer player = Bukkit.getOfflinePlayer(name);
+
+        if (player.isOnline() || player.hasPlayedBefore()) {
+            putIfAbsent(player);
+        }
+        return player.getUniqueId();
+    }
+
+    /**
+     * Gets the number of indexed names.
+     *
+     * @return The number of names.
+     */
+    public int size() {
+        return uuids.size();
+    }
+
+    /**
+     * Indexes an offline player under their name, unless the player or the name is already indexed.
+     *
+     * @param player The player.
+     */
+    private void putIfAbsent(@NotNull OfflinePlayer player) {
+        @Nullable String name = player.getName();
+
+        if (name == null) {
+            return;
+        }
+
+        @NotNull String key = name.toLowerCase(Locale.ROOT);
+
+        if (names.putIfAbsent(player.getUniqueId(), key) == null) {
+            uuids.putIfAbsent(key, player.getUniqueId());
+        }
+    }
+}
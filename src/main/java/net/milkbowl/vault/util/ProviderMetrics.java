@@ -0,0 +1,113 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-method call statistics of a service provider.
+ *
+ * @author Foulest
+ */
+public class ProviderMetrics {
+
+    private final Map<String, CallMetrics> methods = new ConcurrentHashMap<>();
+
+    @Getter
+    private final @NotNull String providerName;
+
+    /**
+     * Creates new provider metrics.
+     *
+     * @param providerName The name of the measured provider.
+     */
+    public ProviderMetrics(@NotNull String providerName) {
+        this.providerName = providerName;
+    }
+
+    /**
+     * Records a call that started at the given time and has just returned.
+     *
+     * @param method The signature of the called method.
+     * @param start  The {@link System#nanoTime()} at which the call started.
+     */
+    public void record(@NotNull String method, long start) {
+        long nanos = System.nanoTime() - start;
+        getMethod(method).record(nanos, Bukkit.isPrimaryThread());
+    }
+
+    /**
+     * Records an asynchronous call once its future completes.
+     * The recorded duration spans from the call until completion,
+     * and the thread is the one that made the call.
+     *
+     * @param method The signature of the called method.
+     * @param start  The {@link System#nanoTime()} at which the call started.
+     * @param future The future returned by the call.
+     * @param <T>    The result type.
+     * @return The given future.
+     */
+    public <T> @NotNull CompletableFuture<T> recordAsync(@NotNull String method, long start,
+                                                         @NotNull CompletableFuture<T> future) {
+        boolean mainThread = Bukkit.isPrimaryThread();
+        @NotNull CallMetrics metrics = getMethod(method);
+
+        future.whenComplete((result, ex) -> metrics.record(System.nanoTime() - start, mainThread));
+        return future;
+    }
+
+    /**
+     * Gets the statistics of every method called so far, sorted by signature.
+     *
+     * @return The statistics, keyed by method signature.
+     */
+    public @NotNull Map<String, CallMetrics> getMethods() {
+        return Collections.unmodifiableMap(new TreeMap<>(methods));
+    }
+
+    /**
+     * Clears the statistics of every method.
+     */
+    public void reset() {
+        methods.values().forEach(CallMetrics::reset);
+    }
+
+    /**
+     * Gets the statistics of a method, creating them on the first call.
+     *
+     * @param method The signature of the method.
+     * @return The method's statistics.
+     */
+    private @NotNull CallMetrics getMethod(@NotNull String method) {
+        @Nullable CallMetrics metrics = methods.get(method);
+
+        if (metrics == null) {
+            metrics = methods.computeIfAbsent(method, key -> new CallMetrics());
+        }
+        return metrics;
+    }
+}
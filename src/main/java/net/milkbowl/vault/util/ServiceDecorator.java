@@ -0,0 +1,73 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A service provider that Vault registers in front of another provider.
+ *
+ * @param <T> The service type.
+ * @author Foulest
+ */
+public interface ServiceDecorator<T> {
+
+    /**
+     * Gets the provider that this decorator forwards to.
+     *
+     * @return The decorated provider.
+     */
+    @NotNull T getDelegate();
+
+    /**
+     * Gets the innermost provider, unwrapping any nested decorators.
+     *
+     * @param provider The provider to unwrap.
+     * @return The innermost provider.
+     */
+    static @NotNull Object unwrap(@NotNull Object provider) {
+        @NotNull Object current = provider;
+
+        while (current instanceof ServiceDecorator) {
+            current = ((ServiceDecorator<?>) current).getDelegate();
+        }
+        return current;
+    }
+
+    /**
+     * Finds the first provider of the given type in a chain of decorators.
+     *
+     * @param provider The outermost provider.
+     * @param type     The type to look for.
+     * @param <D>      The type to look for.
+     * @return The first matching provider, or null if there is none.
+     */
+    static <D> @Nullable D find(@Nullable Object provider, @NotNull Class<D> type) {
+        @Nullable Object current = provider;
+
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+
+            current = current instanceof ServiceDecorator ? ((ServiceDecorator<?>) current).getDelegate() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class for Vault's configuration settings.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+public class Settings {
+
+    /**
+     * Whether provider call metrics are recorded.
+     */
+    public boolean metricsEnabled;
+
+    /**
+     * Whether the Economy read-through cache is enabled.
+     */
+    public boolean economyCacheEnabled;
+
+    /**
+     * Maximum number of players kept in the Economy cache.
+     */
+    public int economyCacheMaxSize;
+
+    /**
+     * Time in milliseconds before a cached Economy entry expires.
+     */
+    public long economyCacheTtlMillis;
+
+    /**
+     * Whether the in-memory backup Economy is registered.
+     */
+    public boolean memoryEconomyEnabled;
+
+    /**
+     * Balance of accounts created in the in-memory backup Economy.
+     */
+    public double memoryEconomyStartingBalance;
+
+    /**
+     * Singular currency name of the in-memory backup Economy.
+     */
+    public String memoryEconomyCurrencySingular;
+
+    /**
+     * Plural currency name of the in-memory backup Economy.
+     */
+    public String memoryEconomyCurrencyPlural;
+
+    /**
+     * Whether the backup Economy saves its balances to disk.
+     */
+    public boolean memoryEconomyPersistent;
+
+    /**
+     * Size in bytes of the backup Economy's journal file.
+     */
+    public int memoryEconomyJournalSize;
+
+    /**
+     * Interval in milliseconds between flushes of the backup Economy's journal.
+     */
+    public long memoryEconomySyncIntervalMillis;
+
+    /**
+     * Whether the Permission check cache is enabled.
+     */
+    public boolean permissionCacheEnabled;
+
+    /**
+     * Maximum number of players kept in the Permission cache.
+     */
+    public int permissionCacheMaxPlayers;
+
+    /**
+     * Maximum number of permission nodes cached per player.
+     */
+    public int permissionCacheMaxNodes;
+
+    /**
+     * Time in milliseconds before a cached permission check expires.
+     */
+    public long permissionCacheTtlMillis;
+
+    /**
+     * Whether SuperPerms resolves wildcard nodes such as plugin.*.
+     */
+    public boolean superPermsWildcards;
+
+    /**
+     * Time in milliseconds before SuperPerms rebuilds a player's wildcard nodes and groups.
+     */
+    public long superPermsRefreshMillis;
+
+    /**
+     * Whether SuperPerms answers checks for offline players from their last known permissions.
+     */
+    public boolean superPermsOfflineEnabled;
+
+    /**
+     * Maximum number of offline players whose permissions are kept.
+     */
+    public int superPermsOfflineMaxPlayers;
+
+    /**
+     * Maximum number of permission nodes kept per offline player.
+     */
+    public int superPermsOfflineMaxNodes;
+
+    /**
+     * Whether the Chat prefix/suffix cache is enabled.
+     */
+    public boolean chatCacheEnabled;
+
+    /**
+     * Maximum number of players kept in the Chat cache.
+     */
+    public int chatCacheMaxPlayers;
+
+    /**
+     * Time in milliseconds before a player's cached prefixes and suffixes expire.
+     */
+    public long chatCacheTtlMillis;
+
+    /**
+     * Number of worker threads used for asynchronous provider calls.
+     */
+    public int asyncThreads;
+
+    /**
+     * Maximum number of asynchronous provider calls waiting to run.
+     */
+    public int asyncQueueSize;
+
+    /**
+     * Number of players converted at the same time by /vault convert.
+     */
+    public int convertParallelism;
+
+    /**
+     * Number of players converted between checkpoints by /vault convert.
+     */
+    public int convertChunkSize;
+
+    /**
+     * Interval in seconds between progress reports of /vault convert.
+     */
+    public int convertProgressInterval;
+
+    /**
+     * Loads the settings from the given configuration.
+     *
+     * @param config The configuration to load from.
+     */
+    public void load(@NotNull FileConfiguration config) {
+        metricsEnabled = config.getBoolean("metrics.enabled", false);
+
+        economyCacheEnabled = config.getBoolean("economy.cache.enabled", false);
+        economyCacheMaxSize = Math.max(1, config.getInt("economy.cache.max-size", 10000));
+        economyCacheTtlMillis = Math.max(0L, config.getLong("economy.cache.ttl-millis", 1000L));
+
+        memoryEconomyEnabled = config.getBoolean("economy.backup.enabled", false);
+        memoryEconomyStartingBalance = Math.max(0.0, config.getDouble("economy.backup.starting-balance", 0.0));
+        memoryEconomyCurrencySingular = config.getString("economy.backup.currency-singular", "Dollar");
+        memoryEconomyCurrencyPlural = config.getString("economy.backup.currency-plural", "Dollars");
+        memoryEconomyPersistent = "file".equalsIgnoreCase(config.getString("economy.backup.storage", "memory"));
+        memoryEconomyJournalSize = Math.min(1024, Math.max(1, config.getInt("economy.backup.journal-size-mb", 8))) << 20;
+        memoryEconomySyncIntervalMillis = Math.max(10L, config.getLong("economy.backup.sync-interval-millis", 200L));
+
+        permissionCacheEnabled = config.getBoolean("permission.cache.enabled", false);
+        permissionCacheMaxPlayers = Math.max(1, config.getInt("permission.cache.max-players", 1000));
+        permissionCacheMaxNodes = Math.max(1, config.getInt("permission.cache.max-nodes-per-player", 512));
+        permissionCacheTtlMillis = Math.max(0L, config.getLong("permission.cache.ttl-millis", 1000L));
+
+        superPermsWildcards = config.getBoolean("permission.superperms.resolve-wildcards", false);
+        superPermsRefreshMillis = Math.max(0L, config.getLong("permission.superperms.refresh-millis", 1000L));
+        superPermsOfflineEnabled = config.getBoolean("permission.superperms.offline.enabled", false);
+        superPermsOfflineMaxPlayers = Math.max(1, config.getInt("permission.superperms.offline.max-players", 10000));
+        superPermsOfflineMaxNodes = Math.max(1, config.getInt("permission.superperms.offline.max-nodes-per-player", 256));
+
+        chatCacheEnabled = config.getBoolean("chat.cache.enabled", false);
+        chatCacheMaxPlayers = Math.max(1, config.getInt("chat.cache.max-players", 1000));
+        chatCacheTtlMillis = Math.max(0L, config.getLong("chat.cache.ttl-millis", 5000L));
+
+        asyncThreads = Math.max(1, config.getInt("async.threads", 4));
+        asyncQueueSize = Math.max(1, config.getInt("async.queue-size", 10000));
+
+        convertParallelism = Math.max(1, config.getInt("convert.parallelism", 1));
+        convertChunkSize = Math.max(1, config.getInt("convert.chunk-size", 500));
+        convertProgressInterval = Math.max(1, config.getInt("convert.progress-interval-seconds", 10));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Utility class for Vault's bounded background executor.
+ * Used to run blocking provider calls off the server thread.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+public class VaultExecutor {
+
+    private final Object lock = new Object();
+    private volatile @Nullable ThreadPoolExecutor executor;
+
+    /**
+     * Gets the executor, creating it on first use.
+     *
+     * @return The executor.
+     */
+    public @NotNull Executor getExecutor() {
+        @Nullable ThreadPoolExecutor current = executor;
+
+        if (current == null) {
+            synchronized (lock) {
+                current = executor;
+
+                if (current == null) {
+                    current = createExecutor(Settings.asyncThreads, Settings.asyncQueueSize);
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Runs the given supplier on the executor.
+     * If the executor's queue is full, the returned future completes
+     * exceptionally with a {@link RejectedExecutionException}.
+     *
+     * @param supplier The supplier to run.
+     * @param <T>      The result type.
+     * @return A future completed with the supplier's result.
+     */
+    public <T> @NotNull CompletableFuture<T> supply(@NotNull Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, getExecutor());
+        } catch (RejectedExecutionException ex) {
+            @NotNull CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+    }
+
+    /**
+     * Shuts down the executor, waiting briefly for queued tasks to finish.
+     */
+    public void shutdown() {
+        @Nullable ThreadPoolExecutor current;
+
+        synchronized (lock) {
+            current = executor;
+            executor = null;
+        }
+
+        if (current == null) {
+            return;
+        }
+
+        current.shutdown();
+
+        try {
+            if (!current.awaitTermination(5, TimeUnit.SECONDS)) {
+                int remaining = current.shutdownNow().size();
+                MessageUtil.log(Level.WARNING, "Discarded " + remaining + " pending async tasks on shutdown.");
+            }
+        } catch (InterruptedException ex) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates a bounded executor.
+     *
+     * @param threads   The number of worker threads.
+     * @param queueSize The maximum number of queued tasks.
+     * @return The executor.
+     */
+    private @NotNull ThreadPoolExecutor createExecutor(int threads, int queueSize) {
+        @NotNull AtomicInteger count = new AtomicInteger();
+
+        @NotNull ThreadFactory threadFactory = runnable -> {
+            @NotNull Thread thread = new Thread(runnable, "Vault Async Thread #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        @NotNull ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util;
+
+import lombok.experimental.UtilityClass;
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.permission.Permission;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility class for getting the current Economy, Permission and Chat providers.
+ * The providers are kept up to date as services are registered and unregistered,
+ * so lookups don't go through the ServicesManager, and are safe from any thread.
+ *
+ * @author Foulest
+ */
+@UtilityClass
+public class VaultServices {
+
+    private volatile @Nullable Economy economy;
+    private volatile @Nullable Permission permission;
+    private volatile @Nullable Chat chat;
+
+    /**
+     * Gets the current Economy provider.
+     *
+     * @return The highest priority Economy provider, or null if there is none.
+     */
+    public @Nullable Economy getEconomy() {
+        return economy;
+    }
+
+    /**
+     * Gets the current Permission provider.
+     *
+     * @return The highest priority Permission provider, or null if there is none.
+     */
+    public @Nullable Permission getPermission() {
+        return permission;
+    }
+
+    /**
+     * Gets the current Chat provider.
+     *
+     * @return The highest priority Chat provider, or null if there is none.
+     */
+    public @Nullable Chat getChat() {
+        return chat;
+    }
+
+    /**
+     * Re-reads the current provider of every service Vault provides.
+     */
+    public void refreshAll() {
+        refresh(Economy.class);
+        refresh(Permission.class);
+        refresh(Chat.class);
+    }
+
+    /**
+     * Re-reads the current provider of the given service.
+     *
+     * @param service The service class that changed.
+     */
+    public void refresh(@NotNull Class<?> service) {
+        if (service == Economy.class) {
+            economy = getRegisteredProvider(Economy.class);
+        } else if (service == Permission.class) {
+            permission = getRegisteredProvider(Permission.class);
+        } else if (service == Chat.class) {
+            chat = getRegisteredProvider(Chat.class);
+        }
+    }
+
+    /**
+     * Forgets all providers, such as when Vault is disabled.
+     */
+    public void clear() {
+        economy = null;
+        permission = null;
+        chat = null;
+    }
+
+    /**
+     * Gets the highest priority provider of a service from the ServicesManager.
+     *
+     * @param service The service class.
+     * @param <T>     The service type.
+     * @return The provider, or null if there is none.
+     */
+    private <T> @Nullable T getRegisteredProvider(@NotNull Class<T> service) {
+        @Nullable RegisteredServiceProvider<T> rsp = Bukkit.getServer().getServicesManager().getRegistration(service);
+        return rsp == null ? null : rsp.getProvider();
+    }
+}
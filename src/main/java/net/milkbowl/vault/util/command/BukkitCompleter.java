@@ -22,10 +22,10 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.*;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Custom Bukkit TabCompleter class that implements the TabCompleter interface.
@@ -37,17 +37,16 @@ import java.util.*;
 @Data
 public class BukkitCompleter implements TabCompleter {
 
-    private final Map<String, Map.Entry<Method, Object>> completers = new HashMap<>();
+    private final CommandTrie<CommandHandler> completers = new CommandTrie<>();
 
     /**
      * Adds a TabCompleter method for a specific label.
      *
-     * @param label  The label associated with the TabCompleter.
-     * @param method The method to invoke for tab-completion.
-     * @param obj    The object that contains the method to be invoked.
+     * @param label   The label associated with the TabCompleter.
+     * @param handler The resolved handler to invoke for tab-completion.
      */
-    void addCompleter(String label, Method method, Object obj) {
-        completers.put(label, new AbstractMap.SimpleEntry<>(method, obj));
+    void addCompleter(String label, CommandHandler handler) {
+        completers.put(label, handler);
     }
 
     /**
@@ -65,32 +64,13 @@ public class BukkitCompleter implements TabCompleter {
                                       @NotNull Command command,
                                       @NotNull String label,
                                       String @NotNull [] args) {
-        for (int i = args.length; i >= 0; i--) {
-            @NotNull StringBuilder buffer = new StringBuilder();
-            @NotNull String labelLower = label.toLowerCase(Locale.ROOT);
-            buffer.append(labelLower);
+        CommandTrie.@Nullable Node<CommandHandler> node = completers.find(label, args, true);
 
-            for (int x = 0; x < i; x++) {
-                if (!args[x].isEmpty() && !(" ").equals(args[x])) {
-                    @NotNull String argsLower = args[x].toLowerCase(Locale.ROOT);
-                    buffer.append(".").append(argsLower);
-                }
-            }
-
-            @NotNull String cmdLabel = buffer.toString();
-
-            if (completers.containsKey(cmdLabel)) {
-                Map.Entry<Method, Object> entry = completers.get(cmdLabel);
-
-                try {
-                    Object entryValue = entry.getValue();
-                    String @NotNull [] split = cmdLabel.split("\\.");
-
-                    return (List<String>) entry.getKey().invoke(entryValue,
-                            new CommandArgs(sender, command, label, args, split.length - 1));
-                } catch (IllegalArgumentException | InvocationTargetException | IllegalAccessException ex) {
-                    ex.printStackTrace();
-                }
+        if (node != null) {
+            try {
+                return (List<String>) node.getValue().invoke(new CommandArgs(sender, command, label, args, node.getDepth()));
+            } catch (Throwable ex) {
+                ex.printStackTrace();
             }
         }
         return Collections.emptyList();
@@ -31,7 +31,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.logging.Level;
@@ -46,7 +45,7 @@ import java.util.logging.Level;
 @Data
 public class CommandFramework implements CommandExecutor {
 
-    private final Map<String, Map.Entry<Method, Object>> commandMap = new HashMap<>();
+    private final CommandTrie<CommandHandler> commandTrie = new CommandTrie<>();
     private final @NotNull Plugin plugin;
     private CommandMap map;
 
@@ -102,44 +101,28 @@ public class CommandFramework implements CommandExecutor {
                                org.bukkit.command.Command cmd,
                                @NotNull String label,
                                String @NotNull [] args) {
-        for (int i = args.length; i >= 0; i--) {
-            @NotNull StringBuilder buffer = new StringBuilder();
+        CommandTrie.@Nullable Node<CommandHandler> node = commandTrie.find(label, args, false);
 
-            @NotNull String labelLower = label.toLowerCase(Locale.ROOT);
-            buffer.append(labelLower);
+        if (node != null) {
+            CommandHandler handler = node.getValue();
+            @NotNull String permission = handler.getPermission();
 
-            for (int x = 0; x < i; x++) {
-                @NotNull String argsLower = args[x].toLowerCase(Locale.ROOT);
-                buffer.append(".").append(argsLower);
+            if (!permission.isEmpty() && !sender.hasPermission(permission)) {
+                MessageUtil.messagePlayer(sender, handler.getNoPermission());
+                return;
             }
 
-            @NotNull String cmdLabel = buffer.toString();
-
-            if (commandMap.containsKey(cmdLabel)) {
-                Method key = commandMap.get(cmdLabel).getKey();
-                Object value = commandMap.get(cmdLabel).getValue();
-                Command command = key.getAnnotation(Command.class);
-                String permission = command.permission();
-
-                if (!permission.isEmpty() && !sender.hasPermission(permission)) {
-                    String noPermission = command.noPermission();
-                    MessageUtil.messagePlayer(sender, noPermission);
-                    return;
-                }
-
-                if (command.inGameOnly() && !(sender instanceof Player)) {
-                    MessageUtil.messagePlayer(sender, "&cOnly players may execute this command.");
-                    return;
-                }
-
-                try {
-                    String @NotNull [] split = cmdLabel.split("\\.");
-                    key.invoke(value, new CommandArgs(sender, cmd, label, args, split.length - 1));
-                } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException ex) {
-                    ex.printStackTrace();
-                }
+            if (handler.isInGameOnly() && !(sender instanceof Player)) {
+                MessageUtil.messagePlayer(sender, "&cOnly players may execute this command.");
                 return;
             }
+
+            try {
+                handler.invoke(new CommandArgs(sender, cmd, label, args, node.getDepth()));
+            } catch (Throwable ex) {
+                ex.printStackTrace();
+            }
+            return;
         }
 
         defaultCommand(new CommandArgs(sender, cmd, label, args, 0));
@@ -172,23 +155,33 @@ public class CommandFramework implements CommandExecutor {
                 invalidMethod = true;
             }
 
-            if (invalidMethod) {
+            if (invalidMethod || (command == null && completer == null)) {
+                continue;
+            }
+
+            @NotNull CommandHandler handler;
+
+            try {
+                handler = new CommandHandler(method, obj, command);
+            } catch (IllegalAccessException | SecurityException ex) {
+                MessageUtil.log(Level.WARNING, "Unable to register handler: "
+                        + methodName + "; " + ex.getMessage());
                 continue;
             }
 
             if (command != null) {
                 String commandName = command.name();
-                registerCommand(command, commandName, method, obj);
+                registerCommand(command, commandName, handler);
 
                 for (@NotNull String alias : command.aliases()) {
-                    registerCommand(command, alias, method, obj);
+                    registerCommand(command, alias, handler);
                 }
-            } else if (completer != null) {
+            } else {
                 String commandName = completer.name();
-                registerCompleter(commandName, method, obj);
+                registerCompleter(commandName, handler);
 
                 for (@NotNull String alias : completer.aliases()) {
-                    registerCompleter(alias, method, obj);
+                    registerCompleter(alias, handler);
                 }
             }
         }
@@ -199,15 +192,13 @@ public class CommandFramework implements CommandExecutor {
      *
      * @param command The command annotation.
      * @param label   The label of the command.
-     * @param method  The method representing the command handler.
-     * @param obj     The object containing the command method.
+     * @param handler The resolved command handler.
      */
-    private void registerCommand(@NotNull Command command, @NotNull String label, Method method, Object obj) {
+    private void registerCommand(@NotNull Command command, @NotNull String label, @NotNull CommandHandler handler) {
         @NotNull String pluginName = plugin.getName();
-        @NotNull String lowerCase = label.toLowerCase(Locale.ROOT);
 
-        commandMap.put(lowerCase, new AbstractMap.SimpleEntry<>(method, obj));
-        commandMap.put(pluginName + ':' + lowerCase, new AbstractMap.SimpleEntry<>(method, obj));
+        commandTrie.put(label, handler);
+        commandTrie.put(pluginName + ':' + label, handler);
 
         @NotNull String cmdLabel = label.replace(".", ",").split(",")[0].toLowerCase(Locale.ROOT);
         org.bukkit.command.@Nullable Command mapCommand = map.getCommand(cmdLabel);
@@ -233,11 +224,10 @@ public class CommandFramework implements CommandExecutor {
     /**
      * Registers a tab completer with the framework.
      *
-     * @param label  The label of the command.
-     * @param method The method representing the tab completer.
-     * @param obj    The object containing the tab completer method.
+     * @param label   The label of the command.
+     * @param handler The resolved tab completer handler.
      */
-    private void registerCompleter(@NotNull String label, @NotNull Method method, Object obj) {
+    private void registerCompleter(@NotNull String label, @NotNull CommandHandler handler) {
         @NotNull String cmdLabel = label.replace(".", ",").split(",")[0].toLowerCase(Locale.ROOT);
 
         if (map.getCommand(cmdLabel) == null) {
@@ -246,7 +236,7 @@ public class CommandFramework implements CommandExecutor {
             map.register(pluginName, command);
         }
 
-        @NotNull String methodName = method.getName();
+        @NotNull String methodName = handler.getName();
 
         if (map.getCommand(cmdLabel) instanceof BukkitCommand) {
             @Nullable BukkitCommand command = (BukkitCommand) map.getCommand(cmdLabel);
@@ -261,7 +251,7 @@ public class CommandFramework implements CommandExecutor {
                 command.completer = new BukkitCompleter();
             }
 
-            command.completer.addCompleter(label, method, obj);
+            command.completer.addCompleter(label, handler);
 
         } else if (map.getCommand(cmdLabel) instanceof PluginCommand) {
             try {
@@ -278,12 +268,12 @@ public class CommandFramework implements CommandExecutor {
 
                 if (field.get(command) == null) {
                     @NotNull BukkitCompleter completer = new BukkitCompleter();
-                    completer.addCompleter(label, method, obj);
+                    completer.addCompleter(label, handler);
                     field.set(command, completer);
 
                 } else if (field.get(command) instanceof BukkitCompleter) {
                     BukkitCompleter completer = (BukkitCompleter) field.get(command);
-                    completer.addCompleter(label, method, obj);
+                    completer.addCompleter(label, handler);
 
                 } else {
                     MessageUtil.log(Level.WARNING, ConstantUtil.UNABLE_TO_REGISTER_TAB_COMPLETER
@@ -0,0 +1,77 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util.command;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * A command or tab completer handler, resolved once at registration.
+ * The handler method is bound to its object as a MethodHandle, and the
+ * {@link Command} metadata checked before each execution is copied out
+ * of the annotation, so dispatching doesn't use reflection.
+ * This class is part of the CommandFramework.
+ *
+ * @author Foulest
+ */
+@Getter
+class CommandHandler {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(Object.class, CommandArgs.class);
+
+    private final @NotNull String name;
+    private final @NotNull String permission;
+    private final @NotNull String noPermission;
+    private final boolean inGameOnly;
+    private final @NotNull MethodHandle handle;
+
+    /**
+     * Resolves a handler method.
+     *
+     * @param method  The handler method, taking a single CommandArgs parameter.
+     * @param obj     The object containing the handler method.
+     * @param command The command annotation of the method, or null for a tab completer.
+     * @throws IllegalAccessException If the method can't be accessed.
+     */
+    CommandHandler(@NotNull Method method, @NotNull Object obj, @Nullable Command command) throws IllegalAccessException {
+        method.setAccessible(true);
+
+        name = method.getName();
+        permission = command == null ? "" : command.permission();
+        noPermission = command == null ? "" : command.noPermission();
+        inGameOnly = command != null && command.inGameOnly();
+        handle = MethodHandles.lookup().unreflect(method).bindTo(obj).asType(HANDLER_TYPE);
+    }
+
+    /**
+     * Invokes the handler.
+     *
+     * @param args The arguments to pass to the handler.
+     * @return The value returned by the handler, or null if it returns void.
+     * @throws Throwable Any exception thrown by the handler.
+     */
+    @Nullable Object invoke(@NotNull CommandArgs args) throws Throwable {
+        return (Object) handle.invokeExact(args);
+    }
+}
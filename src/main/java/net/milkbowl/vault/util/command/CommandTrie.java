@@ -0,0 +1,132 @@
+/*
+ * Vault - a permissions, chat, & economy API to give plugins easy hooks into.
+ * Copyright (C) 2024 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.milkbowl.vault.util.command;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive trie of command labels, built when commands are registered.
+ * Each level of the trie is one part of a dotted label, so "vault.convert" is stored
+ * as the node "convert" below the node "vault". Looking up a command is a single walk
+ * over the argument array that doesn't allocate or lower-case any strings.
+ * This class is part of the CommandFramework.
+ *
+ * @param <T> The type of value stored for each label.
+ * @author Foulest
+ */
+class CommandTrie<T> {
+
+    private final @NotNull Node<T> root = new Node<>(-1);
+
+    /**
+     * Stores a value for the given dotted label, replacing any existing value.
+     *
+     * @param label The dotted label, e.g. "vault.convert".
+     * @param value The value to store.
+     */
+    void put(@NotNull String label, @NotNull T value) {
+        @NotNull Node<T> node = root;
+
+        for (@NotNull String part : label.split("\\.")) {
+            node = node.getOrCreateChild(part);
+        }
+
+        node.value = value;
+    }
+
+    /**
+     * Finds the node with the longest label matching the command label and its arguments.
+     *
+     * @param label     The command label.
+     * @param args      The command arguments.
+     * @param skipEmpty Whether empty arguments are skipped instead of ending the walk.
+     * @return The matching node, or null if no label matches.
+     */
+    @Nullable Node<T> find(@NotNull String label, String @NotNull [] args, boolean skipEmpty) {
+        @Nullable Node<T> node = root.getChild(label);
+        @Nullable Node<T> match = null;
+
+        for (int i = 0; node != null; i++) {
+            if (node.value != null) {
+                match = node;
+            }
+
+            if (i >= args.length) {
+                break;
+            }
+
+            @NotNull String arg = args[i];
+
+            if (skipEmpty && (arg.isEmpty() || " ".equals(arg))) {
+                continue;
+            }
+
+            node = node.getChild(arg);
+        }
+        return match;
+    }
+
+    /**
+     * A node in the command trie.
+     *
+     * @param <T> The type of value stored in the node.
+     */
+    static final class Node<T> {
+
+        private final int depth;
+        private @Nullable Map<String, Node<T>> children;
+        private @Nullable T value;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+
+        /**
+         * Gets the number of sub-commands below the root command label.
+         *
+         * @return The sub-command depth of this node.
+         */
+        int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Gets the value stored at this node.
+         *
+         * @return The value, or null if no command is registered at this node.
+         */
+        @Nullable T getValue() {
+            return value;
+        }
+
+        private @Nullable Node<T> getChild(@NotNull String part) {
+            return children == null ? null : children.get(part);
+        }
+
+        private @NotNull Node<T> getOrCreateChild(@NotNull String part) {
+            if (children == null) {
+                children = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            }
+            return children.computeIfAbsent(part, key -> new Node<>(depth + 1));
+        }
+    }
+}